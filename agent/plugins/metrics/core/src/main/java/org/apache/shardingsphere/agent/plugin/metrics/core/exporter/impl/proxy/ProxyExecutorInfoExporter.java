@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadMode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceMetrics;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy executor information exporter.
+ */
+public final class ProxyExecutorInfoExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_executor_info", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Executor information of ShardingSphere-Proxy. virtual_thread is 1 if tasks run on virtual threads; completed_task_count is number of completed tasks; "
+                    + "queue_wait_millis and max_queue_wait_millis are total and max time tasks waited for a thread; run_millis is total run time of tasks",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        ExecutorServiceMetrics metrics = BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getMetrics();
+        result.addMetric(Collections.singletonList("virtual_thread"), ExecutorThreadMode.VIRTUAL == metrics.getThreadMode() ? 1 : 0);
+        result.addMetric(Collections.singletonList("completed_task_count"), metrics.getCompletedTaskCount());
+        result.addMetric(Collections.singletonList("queue_wait_millis"), TimeUnit.NANOSECONDS.toMillis(metrics.getQueueWaitNanos()));
+        result.addMetric(Collections.singletonList("max_queue_wait_millis"), TimeUnit.NANOSECONDS.toMillis(metrics.getMaxQueueWaitNanos()));
+        result.addMetric(Collections.singletonList("run_millis"), TimeUnit.NANOSECONDS.toMillis(metrics.getRunNanos()));
+        return Optional.of(result);
+    }
+}
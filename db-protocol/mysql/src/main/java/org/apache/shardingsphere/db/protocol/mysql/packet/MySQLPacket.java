@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Database packet for MySQL.
  */
@@ -32,4 +35,18 @@ public abstract class MySQLPacket implements DatabasePacket {
     }
     
     protected abstract void write(MySQLPacketPayload payload);
+    
+    /**
+     * Write packet with its own packet headers.
+     *
+     * <p>Packets are written as payload of one packet by codec engine by default,
+     * packets containing payloads of multiple packets write each packet with header and sequence ID here.</p>
+     *
+     * @param out byte buffer to be written
+     * @param sequenceId sequence ID of channel
+     * @return written or not, packet is written as payload of one packet by codec engine if not written
+     */
+    public boolean writeTo(final ByteBuf out, final AtomicInteger sequenceId) {
+        return false;
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch of text result set row packets for MySQL.
+ *
+ * <p>Row values are encoded into the underlying buffer directly, each row is prefixed with its payload length.
+ * The batch writes each row as its own packet with packet header and sequence ID, rows larger than max packet length are split into multiple packets.
+ * Written as payload of one packet, rows are written one after another without packet headers.</p>
+ *
+ * @see MySQLTextResultSetRowPacket
+ */
+public final class MySQLTextResultSetRowBatchPacket extends MySQLPacket implements ReferenceCounted {
+    
+    private static final int ROW_LENGTH_SIZE = 4;
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int PACKET_HEADER_SIZE = 4;
+    
+    private final ByteBuf byteBuf;
+    
+    private final MySQLPacketPayload rowsPayload;
+    
+    private int rowStartIndex;
+    
+    private int rowCount;
+    
+    public MySQLTextResultSetRowBatchPacket(final ByteBuf byteBuf, final Charset charset) {
+        this.byteBuf = byteBuf;
+        rowsPayload = new MySQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Begin row.
+     */
+    public void beginRow() {
+        rowStartIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+    }
+    
+    /**
+     * Write value of current row.
+     *
+     * @param value value
+     */
+    public void writeValue(final Object value) {
+        MySQLTextResultSetRowPacket.writeValue(rowsPayload, value);
+    }
+    
+    /**
+     * End row.
+     */
+    public void endRow() {
+        byteBuf.setInt(rowStartIndex, byteBuf.writerIndex() - rowStartIndex - ROW_LENGTH_SIZE);
+        rowCount++;
+    }
+    
+    /**
+     * Get row count.
+     *
+     * @return row count
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * Get encoded bytes size of rows.
+     *
+     * @return encoded bytes size of rows
+     */
+    public int getBytesSize() {
+        return byteBuf.readableBytes();
+    }
+    
+    @Override
+    public boolean writeTo(final ByteBuf out, final AtomicInteger sequenceId) {
+        out.ensureWritable(byteBuf.readableBytes() + rowCount * PACKET_HEADER_SIZE);
+        for (int remainPayloadLength = readRowLength(); remainPayloadLength >= 0; remainPayloadLength = readRowLength()) {
+            int packetLength;
+            do {
+                packetLength = Math.min(remainPayloadLength, MAX_PACKET_LENGTH);
+                out.writeMediumLE(packetLength);
+                out.writeByte(sequenceId.getAndIncrement());
+                out.writeBytes(byteBuf, packetLength);
+                remainPayloadLength -= packetLength;
+            } while (MAX_PACKET_LENGTH == packetLength);
+        }
+        return true;
+    }
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        for (int rowLength = readRowLength(); rowLength >= 0; rowLength = readRowLength()) {
+            payload.getByteBuf().writeBytes(byteBuf, rowLength);
+        }
+    }
+    
+    private int readRowLength() {
+        return byteBuf.isReadable() ? byteBuf.readInt() : -1;
+    }
+    
+    @Override
+    public int refCnt() {
+        return byteBuf.refCnt();
+    }
+    
+    @Override
+    public MySQLTextResultSetRowBatchPacket retain() {
+        byteBuf.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLTextResultSetRowBatchPacket retain(final int increment) {
+        byteBuf.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLTextResultSetRowBatchPacket touch() {
+        byteBuf.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLTextResultSetRowBatchPacket touch(final Object hint) {
+        byteBuf.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return byteBuf.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return byteBuf.release(decrement);
+    }
+}
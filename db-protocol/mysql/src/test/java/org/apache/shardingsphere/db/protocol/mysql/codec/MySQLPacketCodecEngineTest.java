@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
@@ -25,6 +26,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowBatchPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -144,6 +146,24 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 1);
     }
     
+    @Test
+    void assertEncodeRowBatch() {
+        MySQLTextResultSetRowBatchPacket actualMessage = new MySQLTextResultSetRowBatchPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actualMessage.beginRow();
+        actualMessage.writeValue("foo");
+        actualMessage.writeValue(null);
+        actualMessage.endRow();
+        actualMessage.beginRow();
+        actualMessage.writeValue(1);
+        actualMessage.endRow();
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(1);
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, actualMessage, actual);
+        byte[] expected = {0x05, 0x00, 0x00, 0x01, 0x03, 'f', 'o', 'o', (byte) 0xfb, 0x02, 0x00, 0x00, 0x02, 0x01, '1'};
+        assertThat(ByteBufUtil.getBytes(actual), is(expected));
+        assertThat(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().get(), is(3));
+    }
+    
     @Test
     void assertEncodePacketMoreThan16MB() {
         CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
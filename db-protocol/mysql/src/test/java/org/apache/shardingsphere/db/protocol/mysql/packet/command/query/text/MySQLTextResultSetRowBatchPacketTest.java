@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLTextResultSetRowBatchPacketTest {
+    
+    @Test
+    void assertWriteTo() {
+        MySQLTextResultSetRowBatchPacket actual = createRowBatchPacket();
+        AtomicInteger sequenceId = new AtomicInteger(1);
+        ByteBuf out = Unpooled.buffer();
+        assertTrue(actual.writeTo(out, sequenceId));
+        byte[] expected = {0x05, 0x00, 0x00, 0x01, 0x03, 'f', 'o', 'o', (byte) 0xfb, 0x02, 0x00, 0x00, 0x02, 0x01, '1'};
+        assertThat(ByteBufUtil.getBytes(out), is(expected));
+        assertThat(sequenceId.get(), is(3));
+    }
+    
+    @Test
+    void assertWrite() {
+        MySQLTextResultSetRowBatchPacket actual = createRowBatchPacket();
+        ByteBuf out = Unpooled.buffer();
+        actual.write(new MySQLPacketPayload(out, StandardCharsets.UTF_8));
+        byte[] expected = {0x03, 'f', 'o', 'o', (byte) 0xfb, 0x01, '1'};
+        assertThat(ByteBufUtil.getBytes(out), is(expected));
+    }
+    
+    private MySQLTextResultSetRowBatchPacket createRowBatchPacket() {
+        MySQLTextResultSetRowBatchPacket result = new MySQLTextResultSetRowBatchPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        result.beginRow();
+        result.writeValue("foo");
+        result.writeValue(null);
+        result.endRow();
+        result.beginRow();
+        result.writeValue(1);
+        result.endRow();
+        return result;
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.encrypt.api.config;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.rule.function.EnhancedRuleConfiguration;
@@ -38,6 +40,9 @@ public final class EncryptRuleConfiguration implements DatabaseRuleConfiguration
     
     private final Map<String, AlgorithmConfiguration> encryptors;
     
+    @Setter
+    private EncryptCacheConfiguration encryptCache;
+    
     @Override
     public boolean isEmpty() {
         return tables.isEmpty();
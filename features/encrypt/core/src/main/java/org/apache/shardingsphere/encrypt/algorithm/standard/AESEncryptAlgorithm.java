@@ -33,8 +33,10 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -52,6 +54,12 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @EqualsAndHashCode.Exclude
+    private final ThreadLocal<Cipher> encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    
+    @EqualsAndHashCode.Exclude
+    private final ThreadLocal<Cipher> decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+    
     @Override
     public void init(final Properties props) {
         secretKey = getSecretKey(props);
@@ -67,26 +75,58 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plainValue, final AlgorithmSQLContext algorithmSQLContext) {
-        if (null == plainValue) {
-            return null;
-        }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(result);
+        return null == plainValue ? null : encrypt(encryptCipher.get(), plainValue);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue, final AlgorithmSQLContext algorithmSQLContext) {
-        if (null == cipherValue) {
-            return null;
+        return null == cipherValue ? null : decrypt(decryptCipher.get(), cipherValue);
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        Cipher cipher = encryptCipher.get();
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        Cipher cipher = decryptCipher.get();
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(cipher, each));
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        return result;
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    private String encrypt(final Cipher cipher, final Object plainValue) throws GeneralSecurityException {
+        return Base64.getEncoder().encodeToString(doFinal(encryptCipher, cipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private String decrypt(final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        return new String(doFinal(decryptCipher, cipher, Base64.getDecoder().decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] doFinal(final ThreadLocal<Cipher> cipherHolder, final Cipher cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipherHolder.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache for encrypted or decrypted values of one encrypt column.
+ */
+public final class EncryptValueCache {
+    
+    private final Cache<Object, Object> cache;
+    
+    public EncryptValueCache(final EncryptCacheOptionsConfiguration cacheOptions) {
+        cache = buildCache(cacheOptions);
+    }
+    
+    private Cache<Object, Object> buildCache(final EncryptCacheOptionsConfiguration cacheOptions) {
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        if (cacheOptions.getExpireAfterWriteMillis() > 0L) {
+            result.expireAfterWrite(cacheOptions.getExpireAfterWriteMillis(), TimeUnit.MILLISECONDS);
+        }
+        return result.build();
+    }
+    
+    /**
+     * Get cached value or compute and cache it.
+     *
+     * <p>Only values of immutable types are used as cache keys, others are computed directly.</p>
+     *
+     * @param value value to be encrypted or decrypted
+     * @param computer function to encrypt or decrypt value
+     * @return encrypted or decrypted value
+     */
+    public Object get(final Object value, final Function<Object, Object> computer) {
+        if (null == value) {
+            return null;
+        }
+        return isCacheable(value) ? cache.get(value, computer) : computer.apply(value);
+    }
+    
+    private boolean isCacheable(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof BigInteger || value instanceof BigDecimal;
+    }
+}
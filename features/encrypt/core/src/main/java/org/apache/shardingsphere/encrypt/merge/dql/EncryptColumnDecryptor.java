@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+
+/**
+ * Encrypt column decryptor, which binds cipher column with the database, schema, table and column it decrypts for.
+ */
+@RequiredArgsConstructor
+public final class EncryptColumnDecryptor {
+    
+    private final String databaseName;
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final String logicColumnName;
+    
+    private final CipherColumnItem cipher;
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @return decrypted value
+     */
+    public Object decrypt(final Object cipherValue) {
+        return cipher.decrypt(databaseName, schemaName, tableName, logicColumnName, cipherValue);
+    }
+}
@@ -19,14 +19,19 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
+import java.util.Optional;
+
 /**
  * DQL result decorator for encrypt.
  */
@@ -41,11 +46,31 @@ public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptR
     
     @Override
     public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, encryptRule, selectStatementContext, new TransparentMergedResult(queryResult));
+        return new EncryptMergedResult(createColumnDecryptors(), new TransparentMergedResult(queryResult));
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        return new EncryptMergedResult(createColumnDecryptors(), mergedResult);
+    }
+    
+    private EncryptColumnDecryptor[] createColumnDecryptors() {
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selectStatementContext.findColumnProjection(i + 1).flatMap(this::findColumnDecryptor).orElse(null);
+        }
+        return result;
+    }
+    
+    private Optional<EncryptColumnDecryptor> findColumnDecryptor(final ColumnProjection columnProjection) {
+        String originalTableName = columnProjection.getOriginalTable().getValue();
+        String originalColumnName = columnProjection.getOriginalColumn().getValue();
+        Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+        if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+            return Optional.empty();
+        }
+        String schemaName =
+                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        return Optional.of(new EncryptColumnDecryptor(database.getName(), schemaName, originalTableName, originalColumnName, encryptTable.get().getEncryptColumn(originalColumnName).getCipher()));
     }
 }
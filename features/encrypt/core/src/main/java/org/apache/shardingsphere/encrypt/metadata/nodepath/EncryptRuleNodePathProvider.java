@@ -34,7 +34,9 @@ public final class EncryptRuleNodePathProvider implements RuleNodePathProvider {
     
     public static final String ENCRYPTORS = "encryptors";
     
-    private static final RuleNodePath INSTANCE = new RuleNodePath(RULE_TYPE, Arrays.asList(TABLES, ENCRYPTORS), Collections.emptyList());
+    public static final String ENCRYPT_CACHE = "encrypt_cache";
+    
+    private static final RuleNodePath INSTANCE = new RuleNodePath(RULE_TYPE, Arrays.asList(TABLES, ENCRYPTORS), Collections.singleton(ENCRYPT_CACHE));
     
     @Override
     public RuleNodePath getRuleNodePath() {
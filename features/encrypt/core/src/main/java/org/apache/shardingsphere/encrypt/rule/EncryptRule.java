@@ -58,7 +58,7 @@ public final class EncryptRule implements DatabaseRule {
         Map<String, EncryptAlgorithm> encryptors = createEncryptors(ruleConfig);
         for (EncryptTableRuleConfiguration each : ruleConfig.getTables()) {
             each.getColumns().forEach(columnRuleConfig -> checkEncryptorType(columnRuleConfig, encryptors));
-            tables.put(each.getName().toLowerCase(), new EncryptTable(each, encryptors));
+            tables.put(each.getName().toLowerCase(), new EncryptTable(each, encryptors, ruleConfig.getEncryptCache()));
         }
         attributes = new RuleAttributes(new EncryptTableMapperRuleAttribute(ruleConfig.getTables()));
     }
@@ -19,8 +19,11 @@ package org.apache.shardingsphere.encrypt.rule;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import lombok.Getter;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.cache.EncryptValueCache;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptColumnNotFoundException;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptLogicColumnNotFoundException;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
@@ -46,22 +49,32 @@ public final class EncryptTable {
     private final Map<String, EncryptColumn> columns;
     
     public EncryptTable(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
+        this(config, encryptors, null);
+    }
+    
+    public EncryptTable(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors, final EncryptCacheConfiguration cacheConfig) {
         table = config.getName();
-        columns = createEncryptColumns(config, encryptors);
+        columns = createEncryptColumns(config, encryptors, cacheConfig);
     }
     
-    private Map<String, EncryptColumn> createEncryptColumns(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
+    private Map<String, EncryptColumn> createEncryptColumns(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors, final EncryptCacheConfiguration cacheConfig) {
         Map<String, EncryptColumn> result = new CaseInsensitiveMap<>();
         for (EncryptColumnRuleConfiguration each : config.getColumns()) {
-            result.put(each.getName(), createEncryptColumn(each, encryptors));
+            result.put(each.getName(), createEncryptColumn(each, encryptors, null == cacheConfig ? null : cacheConfig.getEncryptedValueCache(),
+                    null == cacheConfig ? null : cacheConfig.getDecryptedValueCache()));
         }
         return result;
     }
     
-    private EncryptColumn createEncryptColumn(final EncryptColumnRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
-        EncryptColumn result = new EncryptColumn(config.getName(), new CipherColumnItem(config.getCipher().getName(), encryptors.get(config.getCipher().getEncryptorName())));
+    private EncryptColumn createEncryptColumn(final EncryptColumnRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors,
+                                              final EncryptCacheOptionsConfiguration encryptedValueCacheOptions, final EncryptCacheOptionsConfiguration decryptedValueCacheOptions) {
+        EncryptAlgorithm cipherEncryptor = encryptors.get(config.getCipher().getEncryptorName());
+        EncryptColumn result = new EncryptColumn(config.getName(), new CipherColumnItem(config.getCipher().getName(), cipherEncryptor,
+                createEncryptedValueCache(cipherEncryptor, encryptedValueCacheOptions), createDecryptedValueCache(cipherEncryptor, decryptedValueCacheOptions)));
         if (config.getAssistedQuery().isPresent()) {
-            result.setAssistedQuery(new AssistedQueryColumnItem(config.getAssistedQuery().get().getName(), encryptors.get(config.getAssistedQuery().get().getEncryptorName())));
+            EncryptAlgorithm assistedQueryEncryptor = encryptors.get(config.getAssistedQuery().get().getEncryptorName());
+            result.setAssistedQuery(new AssistedQueryColumnItem(config.getAssistedQuery().get().getName(), assistedQueryEncryptor,
+                    createEncryptedValueCache(assistedQueryEncryptor, encryptedValueCacheOptions)));
         }
         if (config.getLikeQuery().isPresent()) {
             result.setLikeQuery(new LikeQueryColumnItem(config.getLikeQuery().get().getName(), encryptors.get(config.getLikeQuery().get().getEncryptorName())));
@@ -69,6 +82,14 @@ public final class EncryptTable {
         return result;
     }
     
+    private EncryptValueCache createEncryptedValueCache(final EncryptAlgorithm encryptor, final EncryptCacheOptionsConfiguration cacheOptions) {
+        return null == cacheOptions || null == encryptor || !encryptor.getMetaData().isSupportEquivalentFilter() ? null : new EncryptValueCache(cacheOptions);
+    }
+    
+    private EncryptValueCache createDecryptedValueCache(final EncryptAlgorithm encryptor, final EncryptCacheOptionsConfiguration cacheOptions) {
+        return null == cacheOptions || null == encryptor || !encryptor.getMetaData().isSupportDecrypt() ? null : new EncryptValueCache(cacheOptions);
+    }
+    
     /**
      * Find encryptor.
      *
@@ -17,18 +17,18 @@
 
 package org.apache.shardingsphere.encrypt.rule.column.item;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.cache.EncryptValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Assisted query column item.
  */
-@RequiredArgsConstructor
 @Getter
 public final class AssistedQueryColumnItem {
     
@@ -36,6 +36,19 @@ public final class AssistedQueryColumnItem {
     
     private final EncryptAlgorithm encryptor;
     
+    @Getter(AccessLevel.NONE)
+    private final EncryptValueCache encryptedValueCache;
+    
+    public AssistedQueryColumnItem(final String name, final EncryptAlgorithm encryptor) {
+        this(name, encryptor, null);
+    }
+    
+    public AssistedQueryColumnItem(final String name, final EncryptAlgorithm encryptor, final EncryptValueCache encryptedValueCache) {
+        this.name = name;
+        this.encryptor = encryptor;
+        this.encryptedValueCache = encryptedValueCache;
+    }
+    
     /**
      * Get encrypt assisted query value.
      *
@@ -50,7 +63,8 @@ public final class AssistedQueryColumnItem {
         if (null == originalValue) {
             return null;
         }
-        return encryptor.encrypt(originalValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
+        return null == encryptedValueCache ? encryptor.encrypt(originalValue, algorithmSQLContext) : encryptedValueCache.get(originalValue, each -> encryptor.encrypt(each, algorithmSQLContext));
     }
     
     /**
@@ -65,9 +79,12 @@ public final class AssistedQueryColumnItem {
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
-        List<Object> result = new LinkedList<>();
+        if (null == encryptedValueCache) {
+            return encryptor.batchEncrypt(originalValues, algorithmSQLContext);
+        }
+        List<Object> result = new ArrayList<>(originalValues.size());
         for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, algorithmSQLContext));
+            result.add(encryptedValueCache.get(each, value -> encryptor.encrypt(value, algorithmSQLContext)));
         }
         return result;
     }
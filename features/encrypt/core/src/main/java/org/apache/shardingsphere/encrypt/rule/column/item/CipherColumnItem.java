@@ -17,18 +17,18 @@
 
 package org.apache.shardingsphere.encrypt.rule.column.item;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.cache.EncryptValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Cipher column item.
  */
-@RequiredArgsConstructor
 @Getter
 public final class CipherColumnItem {
     
@@ -36,6 +36,23 @@ public final class CipherColumnItem {
     
     private final EncryptAlgorithm encryptor;
     
+    @Getter(AccessLevel.NONE)
+    private final EncryptValueCache encryptedValueCache;
+    
+    @Getter(AccessLevel.NONE)
+    private final EncryptValueCache decryptedValueCache;
+    
+    public CipherColumnItem(final String name, final EncryptAlgorithm encryptor) {
+        this(name, encryptor, null, null);
+    }
+    
+    public CipherColumnItem(final String name, final EncryptAlgorithm encryptor, final EncryptValueCache encryptedValueCache, final EncryptValueCache decryptedValueCache) {
+        this.name = name;
+        this.encryptor = encryptor;
+        this.encryptedValueCache = encryptedValueCache;
+        this.decryptedValueCache = decryptedValueCache;
+    }
+    
     /**
      * Encrypt.
      *
@@ -50,7 +67,8 @@ public final class CipherColumnItem {
         if (null == originalValue) {
             return null;
         }
-        return encryptor.encrypt(originalValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
+        return null == encryptedValueCache ? encryptor.encrypt(originalValue, algorithmSQLContext) : encryptedValueCache.get(originalValue, each -> encryptor.encrypt(each, algorithmSQLContext));
     }
     
     /**
@@ -65,9 +83,12 @@ public final class CipherColumnItem {
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
-        List<Object> result = new LinkedList<>();
+        if (null == encryptedValueCache) {
+            return encryptor.batchEncrypt(originalValues, algorithmSQLContext);
+        }
+        List<Object> result = new ArrayList<>(originalValues.size());
         for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, algorithmSQLContext));
+            result.add(encryptedValueCache.get(each, value -> encryptor.encrypt(value, algorithmSQLContext)));
         }
         return result;
     }
@@ -86,6 +107,29 @@ public final class CipherColumnItem {
         if (null == cipherValue) {
             return null;
         }
-        return encryptor.decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
+        return null == decryptedValueCache ? encryptor.decrypt(cipherValue, algorithmSQLContext) : decryptedValueCache.get(cipherValue, each -> encryptor.decrypt(each, algorithmSQLContext));
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param logicColumnName logic column name
+     * @param cipherValues cipher values
+     * @return decrypted values
+     */
+    public List<Object> decrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> cipherValues) {
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
+        if (null == decryptedValueCache) {
+            return encryptor.batchDecrypt(cipherValues, algorithmSQLContext);
+        }
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(decryptedValueCache.get(each, value -> encryptor.decrypt(value, algorithmSQLContext)));
+        }
+        return result;
     }
 }
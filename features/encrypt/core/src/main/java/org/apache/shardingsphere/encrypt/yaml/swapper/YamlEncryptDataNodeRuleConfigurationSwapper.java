@@ -21,7 +21,9 @@ import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.constant.EncryptOrder;
 import org.apache.shardingsphere.encrypt.metadata.nodepath.EncryptRuleNodePathProvider;
+import org.apache.shardingsphere.encrypt.yaml.config.cache.YamlEncryptCacheConfiguration;
 import org.apache.shardingsphere.encrypt.yaml.config.rule.YamlEncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.yaml.swapper.cache.YamlEncryptCacheConfigurationSwapper;
 import org.apache.shardingsphere.encrypt.yaml.swapper.rule.YamlEncryptTableRuleConfigurationSwapper;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.mode.path.RuleNodePath;
@@ -49,6 +51,8 @@ public final class YamlEncryptDataNodeRuleConfigurationSwapper implements YamlDa
     
     private final YamlAlgorithmConfigurationSwapper algorithmSwapper = new YamlAlgorithmConfigurationSwapper();
     
+    private final YamlEncryptCacheConfigurationSwapper encryptCacheSwapper = new YamlEncryptCacheConfigurationSwapper();
+    
     private final RuleNodePath encryptRuleNodePath = new EncryptRuleNodePathProvider().getRuleNodePath();
     
     @Override
@@ -62,6 +66,10 @@ public final class YamlEncryptDataNodeRuleConfigurationSwapper implements YamlDa
             result.add(new YamlDataNode(encryptRuleNodePath.getNamedItem(EncryptRuleNodePathProvider.TABLES).getPath(each.getName()),
                     YamlEngine.marshal(tableSwapper.swapToYamlConfiguration(each))));
         }
+        if (null != data.getEncryptCache()) {
+            result.add(new YamlDataNode(encryptRuleNodePath.getUniqueItem(EncryptRuleNodePathProvider.ENCRYPT_CACHE).getPath(),
+                    YamlEngine.marshal(encryptCacheSwapper.swapToYamlConfiguration(data.getEncryptCache()))));
+        }
         return result;
     }
     
@@ -73,13 +81,21 @@ public final class YamlEncryptDataNodeRuleConfigurationSwapper implements YamlDa
         }
         Collection<EncryptTableRuleConfiguration> tables = new LinkedList<>();
         Map<String, AlgorithmConfiguration> encryptors = new LinkedHashMap<>();
+        YamlEncryptCacheConfiguration encryptCache = null;
         for (YamlDataNode each : validDataNodes) {
             encryptRuleNodePath.getNamedItem(EncryptRuleNodePathProvider.TABLES).getName(each.getKey())
                     .ifPresent(optional -> tables.add(tableSwapper.swapToObject(YamlEngine.unmarshal(each.getValue(), YamlEncryptTableRuleConfiguration.class))));
             encryptRuleNodePath.getNamedItem(EncryptRuleNodePathProvider.ENCRYPTORS).getName(each.getKey())
                     .ifPresent(optional -> encryptors.put(optional, algorithmSwapper.swapToObject(YamlEngine.unmarshal(each.getValue(), YamlAlgorithmConfiguration.class))));
+            if (encryptRuleNodePath.getUniqueItem(EncryptRuleNodePathProvider.ENCRYPT_CACHE).isValidatedPath(each.getKey())) {
+                encryptCache = YamlEngine.unmarshal(each.getValue(), YamlEncryptCacheConfiguration.class);
+            }
+        }
+        EncryptRuleConfiguration result = new EncryptRuleConfiguration(tables, encryptors);
+        if (null != encryptCache) {
+            result.setEncryptCache(encryptCacheSwapper.swapToObject(encryptCache));
         }
-        return Optional.of(new EncryptRuleConfiguration(tables, encryptors));
+        return Optional.of(result);
     }
     
     @Override
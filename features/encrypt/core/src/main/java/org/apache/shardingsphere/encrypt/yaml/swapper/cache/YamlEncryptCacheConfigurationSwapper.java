@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.yaml.swapper.cache;
+
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
+import org.apache.shardingsphere.encrypt.yaml.config.cache.YamlEncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.yaml.config.cache.YamlEncryptCacheOptionsConfiguration;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+
+/**
+ * YAML encrypt cache configuration swapper.
+ */
+public final class YamlEncryptCacheConfigurationSwapper implements YamlConfigurationSwapper<YamlEncryptCacheConfiguration, EncryptCacheConfiguration> {
+    
+    private final YamlEncryptCacheOptionsConfigurationSwapper cacheOptionsConfigurationSwapper = new YamlEncryptCacheOptionsConfigurationSwapper();
+    
+    @Override
+    public YamlEncryptCacheConfiguration swapToYamlConfiguration(final EncryptCacheConfiguration data) {
+        YamlEncryptCacheConfiguration result = new YamlEncryptCacheConfiguration();
+        if (null != data.getDecryptedValueCache()) {
+            result.setDecryptedValueCache(cacheOptionsConfigurationSwapper.swapToYamlConfiguration(data.getDecryptedValueCache()));
+        }
+        if (null != data.getEncryptedValueCache()) {
+            result.setEncryptedValueCache(cacheOptionsConfigurationSwapper.swapToYamlConfiguration(data.getEncryptedValueCache()));
+        }
+        return result;
+    }
+    
+    @Override
+    public EncryptCacheConfiguration swapToObject(final YamlEncryptCacheConfiguration yamlConfig) {
+        return new EncryptCacheConfiguration(swapCacheOptions(yamlConfig.getDecryptedValueCache()), swapCacheOptions(yamlConfig.getEncryptedValueCache()));
+    }
+    
+    private EncryptCacheOptionsConfiguration swapCacheOptions(final YamlEncryptCacheOptionsConfiguration yamlConfig) {
+        return null == yamlConfig ? null : cacheOptionsConfigurationSwapper.swapToObject(yamlConfig);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.yaml.swapper.cache;
+
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
+import org.apache.shardingsphere.encrypt.yaml.config.cache.YamlEncryptCacheOptionsConfiguration;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+
+/**
+ * YAML encrypt cache options configuration swapper.
+ */
+public final class YamlEncryptCacheOptionsConfigurationSwapper implements YamlConfigurationSwapper<YamlEncryptCacheOptionsConfiguration, EncryptCacheOptionsConfiguration> {
+    
+    @Override
+    public YamlEncryptCacheOptionsConfiguration swapToYamlConfiguration(final EncryptCacheOptionsConfiguration data) {
+        YamlEncryptCacheOptionsConfiguration result = new YamlEncryptCacheOptionsConfiguration();
+        result.setInitialCapacity(data.getInitialCapacity());
+        result.setMaximumSize(data.getMaximumSize());
+        result.setExpireAfterWriteMillis(data.getExpireAfterWriteMillis());
+        return result;
+    }
+    
+    @Override
+    public EncryptCacheOptionsConfiguration swapToObject(final YamlEncryptCacheOptionsConfiguration yamlConfig) {
+        return new EncryptCacheOptionsConfiguration(yamlConfig.getInitialCapacity(), yamlConfig.getMaximumSize(), yamlConfig.getExpireAfterWriteMillis());
+    }
+}
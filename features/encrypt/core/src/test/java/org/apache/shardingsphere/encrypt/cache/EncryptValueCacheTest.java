@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.cache;
+
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EncryptValueCacheTest {
+    
+    @Test
+    void assertGetWithCacheableValue() {
+        EncryptValueCache cache = new EncryptValueCache(new EncryptCacheOptionsConfiguration(16, 128, 0L));
+        AtomicInteger computeCount = new AtomicInteger();
+        assertThat(cache.get("foo", each -> "encrypted_" + computeCount.incrementAndGet()), is("encrypted_1"));
+        assertThat(cache.get("foo", each -> "encrypted_" + computeCount.incrementAndGet()), is("encrypted_1"));
+        assertThat(computeCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetWithNotCacheableValue() {
+        EncryptValueCache cache = new EncryptValueCache(new EncryptCacheOptionsConfiguration(16, 128, 60000L));
+        AtomicInteger computeCount = new AtomicInteger();
+        byte[] value = new byte[]{1};
+        cache.get(value, each -> "encrypted_" + computeCount.incrementAndGet());
+        assertThat(cache.get(value, each -> "encrypted_" + computeCount.incrementAndGet()), is("encrypted_2"));
+    }
+    
+    @Test
+    void assertGetWithNullValue() {
+        assertNull(new EncryptValueCache(new EncryptCacheOptionsConfiguration(16, 128, 0L)).get(null, each -> "encrypted"));
+    }
+}
@@ -17,10 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
-import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -41,46 +38,48 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class EncryptMergedResultTest {
     
-    @Mock
-    private ShardingSphereDatabase database;
-    
-    @Mock
-    private EncryptRule encryptRule;
-    
-    @Mock
-    private SelectStatementContext selectStatementContext;
-    
     @Mock
     private MergedResult mergedResult;
     
     @Test
     void assertNext() throws SQLException {
-        assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
+        assertFalse(new EncryptMergedResult(new EncryptColumnDecryptor[0], mergedResult).next());
+    }
+    
+    @Test
+    void assertGetValue() throws SQLException {
+        EncryptColumnDecryptor columnDecryptor = mock(EncryptColumnDecryptor.class);
+        when(columnDecryptor.decrypt("encrypted_value")).thenReturn("plain_value");
+        when(mergedResult.getValue(1, Object.class)).thenReturn("encrypted_value");
+        when(mergedResult.getValue(2, String.class)).thenReturn("other_value");
+        EncryptMergedResult actual = new EncryptMergedResult(new EncryptColumnDecryptor[]{columnDecryptor, null}, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("plain_value"));
+        assertThat(actual.getValue(2, String.class), is("other_value"));
     }
     
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
         when(mergedResult.getCalendarValue(1, Date.class, calendar)).thenReturn(new Date(0L));
-        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
+        assertThat(new EncryptMergedResult(new EncryptColumnDecryptor[0], mergedResult).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
     }
     
     @Test
     void assertGetInputStream() throws SQLException {
         InputStream inputStream = mock(InputStream.class);
         when(mergedResult.getInputStream(1, "asc")).thenReturn(inputStream);
-        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getInputStream(1, "asc"), is(inputStream));
+        assertThat(new EncryptMergedResult(new EncryptColumnDecryptor[0], mergedResult).getInputStream(1, "asc"), is(inputStream));
     }
     
     @Test
     void assertGetCharacterStream() throws SQLException {
         Reader reader = mock(Reader.class);
         when(mergedResult.getCharacterStream(1)).thenReturn(reader);
-        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getCharacterStream(1), is(reader));
+        assertThat(new EncryptMergedResult(new EncryptColumnDecryptor[0], mergedResult).getCharacterStream(1), is(reader));
     }
     
     @Test
     void assertWasNull() throws SQLException {
-        assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).wasNull());
+        assertFalse(new EncryptMergedResult(new EncryptColumnDecryptor[0], mergedResult).wasNull());
     }
 }
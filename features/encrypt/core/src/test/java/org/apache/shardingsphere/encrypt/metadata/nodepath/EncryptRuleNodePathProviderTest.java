@@ -34,7 +34,8 @@ class EncryptRuleNodePathProviderTest {
         assertThat(actualRuleNodePath.getNamedItems().size(), is(2));
         assertTrue(actualRuleNodePath.getNamedItems().containsKey(EncryptRuleNodePathProvider.ENCRYPTORS));
         assertTrue(actualRuleNodePath.getNamedItems().containsKey(EncryptRuleNodePathProvider.TABLES));
-        assertTrue(actualRuleNodePath.getUniqueItems().isEmpty());
+        assertThat(actualRuleNodePath.getUniqueItems().size(), is(1));
+        assertTrue(actualRuleNodePath.getUniqueItems().containsKey(EncryptRuleNodePathProvider.ENCRYPT_CACHE));
         assertThat(actualRuleNodePath.getRoot().getRuleType(), is(EncryptRuleNodePathProvider.RULE_TYPE));
     }
 }
@@ -17,11 +17,16 @@
 
 package org.apache.shardingsphere.encrypt.rule;
 
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnItemRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptLogicColumnNotFoundException;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithmMetaData;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -33,7 +38,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class EncryptTableTest {
     
@@ -92,4 +101,22 @@ class EncryptTableTest {
     void assertGetLogicColumnByCipherColumnWhenNotFind() {
         assertThrows(EncryptLogicColumnNotFoundException.class, () -> encryptTable.getLogicColumnByCipherColumn("invalidColumn"));
     }
+    
+    @Test
+    void assertDecryptWithDecryptedValueCache() {
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class);
+        when(encryptor.getMetaData()).thenReturn(new EncryptAlgorithmMetaData(true, false, false));
+        when(encryptor.encrypt(any(), any(AlgorithmSQLContext.class))).thenReturn("cipher");
+        when(encryptor.decrypt(any(), any(AlgorithmSQLContext.class))).thenReturn("plain");
+        EncryptTable actual = new EncryptTable(new EncryptTableRuleConfiguration("t_encrypt",
+                Collections.singleton(new EncryptColumnRuleConfiguration("logicColumn", new EncryptColumnItemRuleConfiguration("cipherColumn", "myEncryptor")))),
+                Collections.singletonMap("myEncryptor", encryptor), new EncryptCacheConfiguration(new EncryptCacheOptionsConfiguration(16, 128, 0L), new EncryptCacheOptionsConfiguration(16, 128, 0L)));
+        CipherColumnItem cipherColumnItem = actual.getEncryptColumn("logicColumn").getCipher();
+        assertThat(cipherColumnItem.decrypt("foo_db", "foo_schema", "t_encrypt", "logicColumn", "cipher"), is("plain"));
+        assertThat(cipherColumnItem.decrypt("foo_db", "foo_schema", "t_encrypt", "logicColumn", "cipher"), is("plain"));
+        verify(encryptor, times(1)).decrypt(any(), any(AlgorithmSQLContext.class));
+        assertThat(cipherColumnItem.encrypt("foo_db", "foo_schema", "t_encrypt", "logicColumn", "plain"), is("cipher"));
+        assertThat(cipherColumnItem.encrypt("foo_db", "foo_schema", "t_encrypt", "logicColumn", "plain"), is("cipher"));
+        verify(encryptor, times(2)).encrypt(any(), any(AlgorithmSQLContext.class));
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.encrypt.yaml.swapper;
 
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnItemRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
@@ -34,6 +36,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class YamlEncryptDataNodeRuleConfigurationSwapperTest {
     
@@ -50,16 +53,19 @@ class YamlEncryptDataNodeRuleConfigurationSwapperTest {
     void assertSwapFullConfigToDataNodes() {
         EncryptRuleConfiguration config = createMaximumEncryptRule();
         Collection<YamlDataNode> result = swapper.swapToDataNodes(config);
-        assertThat(result.size(), is(2));
+        assertThat(result.size(), is(3));
         Iterator<YamlDataNode> iterator = result.iterator();
         assertThat(iterator.next().getKey(), is("encryptors/FOO"));
         assertThat(iterator.next().getKey(), is("tables/foo"));
+        assertThat(iterator.next().getKey(), is("encrypt_cache"));
     }
     
     private EncryptRuleConfiguration createMaximumEncryptRule() {
         Collection<EncryptTableRuleConfiguration> tables = new LinkedList<>();
         tables.add(new EncryptTableRuleConfiguration("foo", Collections.singleton(new EncryptColumnRuleConfiguration("foo_column", new EncryptColumnItemRuleConfiguration("FIXTURE", "FOO")))));
-        return new EncryptRuleConfiguration(tables, Collections.singletonMap("FOO", new AlgorithmConfiguration("FOO", new Properties())));
+        EncryptRuleConfiguration result = new EncryptRuleConfiguration(tables, Collections.singletonMap("FOO", new AlgorithmConfiguration("FOO", new Properties())));
+        result.setEncryptCache(new EncryptCacheConfiguration(new EncryptCacheOptionsConfiguration(128, 1024, 0L), null));
+        return result;
     }
     
     @Test
@@ -89,5 +95,20 @@ class YamlEncryptDataNodeRuleConfigurationSwapperTest {
         assertThat(result.getEncryptors().size(), is(1));
         assertThat(result.getEncryptors().get("FOO").getType(), is("FOO"));
         assertThat(result.getEncryptors().get("FOO").getProps().size(), is(0));
+        assertNull(result.getEncryptCache());
+    }
+    
+    @Test
+    void assertSwapToObjectWithEncryptCache() {
+        Collection<YamlDataNode> config = new LinkedList<>();
+        config.add(new YamlDataNode("/metadata/foo_db/rules/encrypt/encrypt_cache/versions/0", "decryptedValueCache:\n"
+                + "  initialCapacity: 128\n"
+                + "  maximumSize: 1024\n"
+                + "  expireAfterWriteMillis: 60000\n"));
+        EncryptRuleConfiguration result = swapper.swapToObject(config).get();
+        assertThat(result.getEncryptCache().getDecryptedValueCache().getInitialCapacity(), is(128));
+        assertThat(result.getEncryptCache().getDecryptedValueCache().getMaximumSize(), is(1024));
+        assertThat(result.getEncryptCache().getDecryptedValueCache().getExpireAfterWriteMillis(), is(60000L));
+        assertNull(result.getEncryptCache().getEncryptedValueCache());
     }
 }
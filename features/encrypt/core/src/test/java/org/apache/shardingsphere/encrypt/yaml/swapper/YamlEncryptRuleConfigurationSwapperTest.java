@@ -18,8 +18,12 @@
 package org.apache.shardingsphere.encrypt.yaml.swapper;
 
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.cache.EncryptCacheOptionsConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.yaml.config.YamlEncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.yaml.config.cache.YamlEncryptCacheConfiguration;
+import org.apache.shardingsphere.encrypt.yaml.config.cache.YamlEncryptCacheOptionsConfiguration;
 import org.apache.shardingsphere.encrypt.yaml.config.rule.YamlEncryptTableRuleConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -34,6 +38,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 
 class YamlEncryptRuleConfigurationSwapperTest {
@@ -43,12 +48,17 @@ class YamlEncryptRuleConfigurationSwapperTest {
         YamlEncryptRuleConfiguration actual = getSwapper().swapToYamlConfiguration(createEncryptRuleConfiguration());
         assertThat(actual.getTables().size(), is(1));
         assertThat(actual.getEncryptors().size(), is(1));
+        assertThat(actual.getEncryptCache().getEncryptedValueCache().getMaximumSize(), is(1024));
+        assertThat(actual.getEncryptCache().getEncryptedValueCache().getExpireAfterWriteMillis(), is(60000L));
+        assertNull(actual.getEncryptCache().getDecryptedValueCache());
     }
     
     private EncryptRuleConfiguration createEncryptRuleConfiguration() {
         Collection<EncryptTableRuleConfiguration> tables = Collections.singleton(new EncryptTableRuleConfiguration("tbl", Collections.emptyList()));
         Map<String, AlgorithmConfiguration> encryptors = Collections.singletonMap("myEncryptor", new AlgorithmConfiguration("FIXTURE", new Properties()));
-        return new EncryptRuleConfiguration(tables, encryptors);
+        EncryptRuleConfiguration result = new EncryptRuleConfiguration(tables, encryptors);
+        result.setEncryptCache(new EncryptCacheConfiguration(null, new EncryptCacheOptionsConfiguration(128, 1024, 60000L)));
+        return result;
     }
     
     @Test
@@ -56,6 +66,9 @@ class YamlEncryptRuleConfigurationSwapperTest {
         EncryptRuleConfiguration actual = getSwapper().swapToObject(createYamlEncryptRuleConfiguration());
         assertThat(actual.getTables().size(), is(1));
         assertThat(actual.getEncryptors().size(), is(1));
+        assertThat(actual.getEncryptCache().getDecryptedValueCache().getInitialCapacity(), is(128));
+        assertThat(actual.getEncryptCache().getDecryptedValueCache().getMaximumSize(), is(1024));
+        assertNull(actual.getEncryptCache().getEncryptedValueCache());
     }
     
     private YamlEncryptRuleConfiguration createYamlEncryptRuleConfiguration() {
@@ -66,6 +79,12 @@ class YamlEncryptRuleConfigurationSwapperTest {
         YamlAlgorithmConfiguration algorithmConfig = new YamlAlgorithmConfiguration();
         algorithmConfig.setType("CORE.FIXTURE");
         result.getEncryptors().put("fixture_encryptor", algorithmConfig);
+        YamlEncryptCacheOptionsConfiguration cacheOptionsConfig = new YamlEncryptCacheOptionsConfiguration();
+        cacheOptionsConfig.setInitialCapacity(128);
+        cacheOptionsConfig.setMaximumSize(1024);
+        YamlEncryptCacheConfiguration cacheConfig = new YamlEncryptCacheConfiguration();
+        cacheConfig.setDecryptedValueCache(cacheOptionsConfig);
+        result.setEncryptCache(cacheConfig);
         return result;
     }
     
@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Compiles the common shapes of inline sharding expressions, such as {@code t_order_${order_id % 4}}, {@code t_order_${Math.abs(order_id.hashCode()) % 4}}
+ * or {@code t_order_${(order_id % 4).abs()}}, into a tree evaluated in Java with the same integral arithmetic Groovy applies.
+ * Expressions or sharding values outside of those shapes are left to the inline expression parser.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final String PLACEHOLDER_BEGIN_SYMBOL = "${";
+    
+    private static final String PLACEHOLDER_END_SYMBOL = "}";
+    
+    private final List<Object> segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression without type name and with handled place holders
+     * @return compiled inline expression, empty if inline expression is not supported to be compiled
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Object> segments = new ArrayList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int beginIndex = inlineExpression.indexOf(PLACEHOLDER_BEGIN_SYMBOL, index);
+            String literal = inlineExpression.substring(index, -1 == beginIndex ? inlineExpression.length() : beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(literal);
+            }
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf(PLACEHOLDER_END_SYMBOL, beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<ExpressionNode> node = new ExpressionParser(inlineExpression.substring(beginIndex + PLACEHOLDER_BEGIN_SYMBOL.length(), endIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            segments.add(node.get());
+            index = endIndex + PLACEHOLDER_END_SYMBOL.length();
+        }
+        return segments.isEmpty() ? Optional.empty() : Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("\"") && !literal.contains("\\");
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result, empty if arguments are not supported to be evaluated by compiled expression
+     */
+    public Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof String) {
+                result.append(each);
+                continue;
+            }
+            Number value = ((ExpressionNode) each).evaluate(args);
+            if (null == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private interface ExpressionNode {
+        
+        /**
+         * Evaluate expression node.
+         *
+         * @param args arguments
+         * @return evaluated value as integer or long, null if arguments are not supported
+         */
+        Number evaluate(Map<String, Comparable<?>> args);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements ExpressionNode {
+        
+        private final Number value;
+        
+        @Override
+        public Number evaluate(final Map<String, Comparable<?>> args) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnNode implements ExpressionNode {
+        
+        private final String columnName;
+        
+        @Override
+        public Number evaluate(final Map<String, Comparable<?>> args) {
+            Object value = args.get(columnName);
+            if (value instanceof Integer || value instanceof Long) {
+                return (Number) value;
+            }
+            return value instanceof Short || value instanceof Byte ? ((Number) value).intValue() : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements ExpressionNode {
+        
+        private final ExpressionNode node;
+        
+        @Override
+        public Number evaluate(final Map<String, Comparable<?>> args) {
+            Object value = node instanceof ColumnNode ? args.get(((ColumnNode) node).columnName) : node.evaluate(args);
+            return null == value ? null : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements ExpressionNode {
+        
+        private final ExpressionNode node;
+        
+        @Override
+        public Number evaluate(final Map<String, Comparable<?>> args) {
+            Number value = node.evaluate(args);
+            if (null == value) {
+                return null;
+            }
+            return value instanceof Long ? (Number) Math.abs(value.longValue()) : (Number) Math.abs(value.intValue());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements ExpressionNode {
+        
+        private final ExpressionNode node;
+        
+        @Override
+        public Number evaluate(final Map<String, Comparable<?>> args) {
+            Number value = node.evaluate(args);
+            if (null == value) {
+                return null;
+            }
+            return value instanceof Long ? (Number) (-value.longValue()) : (Number) (-value.intValue());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements ExpressionNode {
+        
+        private final char operator;
+        
+        private final ExpressionNode left;
+        
+        private final ExpressionNode right;
+        
+        @Override
+        public Number evaluate(final Map<String, Comparable<?>> args) {
+            Number leftValue = left.evaluate(args);
+            if (null == leftValue) {
+                return null;
+            }
+            Number rightValue = right.evaluate(args);
+            if (null == rightValue) {
+                return null;
+            }
+            return leftValue instanceof Long || rightValue instanceof Long
+                    ? (Number) calculate(leftValue.longValue(), rightValue.longValue())
+                    : (Number) calculate(leftValue.intValue(), rightValue.intValue());
+        }
+        
+        private long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private int calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<ExpressionNode> parse() {
+            ExpressionNode result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private ExpressionNode parseAdditive() {
+            ExpressionNode result = parseMultiplicative();
+            while (null != result) {
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                ExpressionNode right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private ExpressionNode parseMultiplicative() {
+            ExpressionNode result = parseUnary();
+            while (null != result) {
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                ExpressionNode right = parseUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private ExpressionNode parseUnary() {
+            if ('-' == peek()) {
+                position++;
+                ExpressionNode node = parseUnary();
+                return null == node ? null : new NegateNode(node);
+            }
+            return parsePostfix(parsePrimary());
+        }
+        
+        private ExpressionNode parsePostfix(final ExpressionNode node) {
+            ExpressionNode result = node;
+            while (null != result && '.' == peek()) {
+                position++;
+                String methodName = parseIdentifier();
+                if (!consume('(') || !consume(')')) {
+                    return null;
+                }
+                if ("abs".equals(methodName)) {
+                    result = new AbsNode(result);
+                } else if ("hashCode".equals(methodName)) {
+                    result = new HashCodeNode(result);
+                } else {
+                    return null;
+                }
+            }
+            return result;
+        }
+        
+        private ExpressionNode parsePrimary() {
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                ExpressionNode result = parseAdditive();
+                return consume(')') ? result : null;
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            String identifier = parseIdentifier();
+            if (identifier.isEmpty() || '(' == peek()) {
+                return null;
+            }
+            if (!"Math".equals(identifier)) {
+                return new ColumnNode(identifier);
+            }
+            if (!consume('.') || !"abs".equals(parseIdentifier()) || !consume('(')) {
+                return null;
+            }
+            ExpressionNode result = parseAdditive();
+            return null != result && consume(')') ? new AbsNode(result) : null;
+        }
+        
+        private ExpressionNode parseNumber() {
+            int beginIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String digits = expression.substring(beginIndex, position);
+            if (digits.length() > 1 && '0' == digits.charAt(0)) {
+                return null;
+            }
+            boolean isLong = position < expression.length() && ('L' == expression.charAt(position) || 'l' == expression.charAt(position));
+            if (isLong) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return null;
+            }
+            try {
+                long value = Long.parseLong(digits);
+                return new LiteralNode(isLong || value > Integer.MAX_VALUE ? (Number) value : (Number) (int) value);
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int beginIndex = position;
+            if (position < expression.length() && Character.isJavaIdentifierStart(expression.charAt(position))) {
+                position++;
+                while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                    position++;
+                }
+            }
+            return expression.substring(beginIndex, position);
+        }
+        
+        private boolean consume(final char expected) {
+            if (expected != peek()) {
+                return false;
+            }
+            position++;
+            return true;
+        }
+        
+        private char peek() {
+            skipWhitespace();
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -50,6 +51,8 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private Collection<String> shardingColumns;
     
     private boolean allowRangeQuery;
@@ -57,6 +60,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = isTypeNamed(props) ? null : CompiledInlineExpression.compile(algorithmExpression).orElse(null);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -67,6 +71,10 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return InlineExpressionParserFactory.newInstance(algorithmExpression.trim()).handlePlaceHolder();
     }
     
+    private boolean isTypeNamed(final Properties props) {
+        return props.getProperty(ALGORITHM_EXPRESSION_KEY).trim().startsWith("<");
+    }
+    
     private Collection<String> getShardingColumns(final Properties props) {
         String shardingColumns = props.getProperty(SHARING_COLUMNS_KEY, "");
         return shardingColumns.isEmpty() ? Collections.emptyList() : Arrays.asList(shardingColumns.split(","));
@@ -91,6 +99,12 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String doSharding(final Map<String, Comparable<?>> columnNameAndShardingValueMap) {
         columnNameAndShardingValueMap.forEach((key, value) -> ShardingSpherePreconditions.checkNotNull(value, NullShardingValueException::new));
+        if (null != compiledAlgorithmExpression) {
+            Optional<String> result = compiledAlgorithmExpression.evaluate(columnNameAndShardingValueMap);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(columnNameAndShardingValueMap);
     }
     
@@ -46,11 +46,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = isTypeNamed(props) ? null : CompiledInlineExpression.compile(algorithmExpression).orElse(null);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -60,6 +63,10 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return InlineExpressionParserFactory.newInstance(expression.trim()).handlePlaceHolder();
     }
     
+    private boolean isTypeNamed(final Properties props) {
+        return props.getProperty(ALGORITHM_EXPRESSION_KEY).trim().startsWith("<");
+    }
+    
     private boolean isAllowRangeQuery(final Properties props) {
         return Boolean.parseBoolean(props.getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString());
     }
@@ -71,6 +78,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
         map.put(columnName, shardingValue.getValue());
+        if (null != compiledAlgorithmExpression) {
+            Optional<String> result = compiledAlgorithmExpression.evaluate(map);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         try {
             return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
         } catch (final MissingMethodException ignored) {
@@ -17,19 +17,41 @@
 
 package org.apache.shardingsphere.sharding.cache.checker;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Route cacheable check result.
  */
-@RequiredArgsConstructor
 @Getter
 public class ShardingRouteCacheableCheckResult {
     
     private final boolean probablyCacheable;
     
     private final List<Integer> shardingConditionParameterMarkerIndexes;
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingRouteValueCondition valueCondition;
+    
+    public ShardingRouteCacheableCheckResult(final boolean probablyCacheable, final List<Integer> shardingConditionParameterMarkerIndexes) {
+        this(probablyCacheable, shardingConditionParameterMarkerIndexes, null);
+    }
+    
+    public ShardingRouteCacheableCheckResult(final boolean probablyCacheable, final List<Integer> shardingConditionParameterMarkerIndexes, final ShardingRouteValueCondition valueCondition) {
+        this.probablyCacheable = probablyCacheable;
+        this.shardingConditionParameterMarkerIndexes = shardingConditionParameterMarkerIndexes;
+        this.valueCondition = valueCondition;
+    }
+    
+    /**
+     * Find value condition which can be routed value by value.
+     *
+     * @return found value condition
+     */
+    public Optional<ShardingRouteValueCondition> findValueCondition() {
+        return Optional.ofNullable(valueCondition);
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatem
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.algorithm.CacheableShardingAlgorithmChecker;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -39,6 +40,10 @@ import org.apache.shardingsphere.sharding.route.engine.condition.engine.WhereCla
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -49,10 +54,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.P
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -108,7 +115,91 @@ public final class ShardingRouteCacheableChecker {
             return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
         }
         List<ShardingCondition> shardingConditions = new WhereClauseShardingConditionEngine(database, shardingRule, timestampServiceRule).createShardingConditions(statementContext, params);
-        return checkShardingConditionsCacheable(shardingConditions);
+        ShardingRouteCacheableCheckResult result = checkShardingConditionsCacheable(shardingConditions);
+        if (1 != tableNames.size()) {
+            return result;
+        }
+        return new ShardingRouteCacheableCheckResult(result.isProbablyCacheable(), result.getShardingConditionParameterMarkerIndexes(),
+                findValueCondition(tableNames.iterator().next(), shardingConditions, params).orElse(null));
+    }
+    
+    private Optional<ShardingRouteValueCondition> findValueCondition(final String logicTableName, final List<ShardingCondition> shardingConditions, final List<Object> params) {
+        if (1 != shardingConditions.size() || 1 != shardingConditions.get(0).getValues().size()) {
+            return Optional.empty();
+        }
+        ShardingConditionValue conditionValue = shardingConditions.get(0).getValues().get(0);
+        Optional<ShardingTable> shardingTable = shardingRule.findShardingTable(logicTableName);
+        if (!shardingTable.isPresent() || !logicTableName.equalsIgnoreCase(conditionValue.getTableName()) || !isParameterMarkersInRange(conditionValue.getParameterMarkerIndexes(), params)) {
+            return Optional.empty();
+        }
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable.get()));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable.get()));
+        if (!isShardingByColumnOnly(databaseShardingStrategy, conditionValue.getColumnName()) || !isShardingByColumnOnly(tableShardingStrategy, conditionValue.getColumnName())) {
+            return Optional.empty();
+        }
+        if (conditionValue instanceof ListShardingConditionValue<?>) {
+            return isListValueCondition((ListShardingConditionValue<?>) conditionValue, params)
+                    ? Optional.of(new ShardingRouteValueCondition(logicTableName, shardingTable.get(), conditionValue.getColumnName(), databaseShardingStrategy, tableShardingStrategy,
+                            conditionValue.getParameterMarkerIndexes()))
+                    : Optional.empty();
+        }
+        if (conditionValue instanceof RangeShardingConditionValue<?>) {
+            Range<?> valueRange = ((RangeShardingConditionValue<?>) conditionValue).getValueRange();
+            return findRangeParameterMarkerIndexes(valueRange, conditionValue.getParameterMarkerIndexes(), params).map(optional -> new ShardingRouteValueCondition(
+                    logicTableName, shardingTable.get(), conditionValue.getColumnName(), databaseShardingStrategy, tableShardingStrategy, optional,
+                    valueRange.lowerBoundType(), valueRange.upperBoundType()));
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isParameterMarkersInRange(final List<Integer> parameterMarkerIndexes, final List<Object> params) {
+        for (int each : parameterMarkerIndexes) {
+            if (each >= params.size() || null == params.get(each)) {
+                return false;
+            }
+        }
+        return new HashSet<>(parameterMarkerIndexes).size() == parameterMarkerIndexes.size();
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    private boolean isShardingByColumnOnly(final ShardingStrategy shardingStrategy, final String columnName) {
+        if (shardingStrategy instanceof NoneShardingStrategy) {
+            return true;
+        }
+        return shardingStrategy instanceof StandardShardingStrategy && 1 == shardingStrategy.getShardingColumns().size()
+                && columnName.equalsIgnoreCase(shardingStrategy.getShardingColumns().iterator().next());
+    }
+    
+    private boolean isListValueCondition(final ListShardingConditionValue<?> conditionValue, final List<Object> params) {
+        if (conditionValue.getValues().size() < 2 || conditionValue.getValues().size() != conditionValue.getParameterMarkerIndexes().size()) {
+            return false;
+        }
+        for (int each : conditionValue.getParameterMarkerIndexes()) {
+            if (!conditionValue.getValues().contains(params.get(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<List<Integer>> findRangeParameterMarkerIndexes(final Range<?> range, final List<Integer> parameterMarkerIndexes, final List<Object> params) {
+        if (2 != parameterMarkerIndexes.size() || !range.hasLowerBound() || !range.hasUpperBound() || range.lowerEndpoint() instanceof CharSequence || range.lowerEndpoint().equals(range.upperEndpoint())) {
+            return Optional.empty();
+        }
+        int first = parameterMarkerIndexes.get(0);
+        int second = parameterMarkerIndexes.get(1);
+        if (range.lowerEndpoint().equals(params.get(first)) && range.upperEndpoint().equals(params.get(second))) {
+            return Optional.of(Arrays.asList(first, second));
+        }
+        if (range.lowerEndpoint().equals(params.get(second)) && range.upperEndpoint().equals(params.get(first))) {
+            return Optional.of(Arrays.asList(second, first));
+        }
+        return Optional.empty();
     }
     
     private ShardingRouteCacheableCheckResult checkUpdateCacheable(final UpdateStatementContext statementContext, final List<Object> params, final ShardingSphereDatabase database) {
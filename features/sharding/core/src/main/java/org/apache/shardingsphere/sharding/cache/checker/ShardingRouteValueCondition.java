@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.checker;
+
+import com.google.common.collect.BoundType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.List;
+
+/**
+ * Sharding route value condition.
+ * 
+ * <p>A single IN list or range predicate on the only sharding column of a single sharding table, whose values all come from parameter markers.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingRouteValueCondition {
+    
+    private final String logicTableName;
+    
+    private final ShardingTable shardingTable;
+    
+    private final String columnName;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final List<Integer> parameterMarkerIndexes;
+    
+    private final BoundType lowerBoundType;
+    
+    private final BoundType upperBoundType;
+    
+    public ShardingRouteValueCondition(final String logicTableName, final ShardingTable shardingTable, final String columnName,
+                                       final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy, final List<Integer> parameterMarkerIndexes) {
+        this(logicTableName, shardingTable, columnName, databaseShardingStrategy, tableShardingStrategy, parameterMarkerIndexes, null, null);
+    }
+    
+    /**
+     * Judge whether condition is range.
+     * 
+     * <p>Parameter marker indexes of range condition are lower endpoint index and upper endpoint index.</p>
+     *
+     * @return is range or not
+     */
+    public boolean isRange() {
+        return null != lowerBoundType;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.plan;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlan;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Value of sharding SQL plan cache.
+ */
+@RequiredArgsConstructor
+public final class ShardingSQLPlanCacheValue {
+    
+    private final ShardingRouteCacheValue routeCacheValue;
+    
+    private final String rewrittenSQL;
+    
+    /**
+     * Get cached SQL plan.
+     *
+     * @param params parameters of current execution
+     * @return optional cached SQL plan
+     */
+    public Optional<SQLPlan> getCachedSQLPlan(final List<Object> params) {
+        Optional<RouteContext> routeContext = routeCacheValue.getCachedRouteContext();
+        if (!routeContext.isPresent() || 1 != routeContext.get().getRouteUnits().size()) {
+            return Optional.empty();
+        }
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(1, 1F);
+        sqlRewriteUnits.put(routeContext.get().getRouteUnits().iterator().next(), new SQLRewriteUnit(rewrittenSQL, new ArrayList<>(params)));
+        return Optional.of(new SQLPlan(routeContext.get(), new RouteSQLRewriteResult(sqlRewriteUnits)));
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.cache.route;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -25,6 +27,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteValueCondition;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -57,6 +60,13 @@ public final class CachedShardingSQLRouter {
             return Optional.empty();
         }
         ShardingRouteCacheableCheckResult cacheableCheckResult = shardingCache.getRouteCacheableChecker().check(database, queryContext);
+        Optional<ShardingRouteValueCondition> valueCondition = cacheableCheckResult.findValueCondition();
+        if (valueCondition.isPresent() && !containsShardingHint(queryContext.getHintValueContext())) {
+            Optional<RouteContext> result = new CachedShardingValueRouter(shardingCache.getRouteCache(), props).route(valueCondition.get(), queryContext.getParameters());
+            if (result.isPresent()) {
+                return result;
+            }
+        }
         if (!cacheableCheckResult.isProbablyCacheable()) {
             return Optional.empty();
         }
@@ -77,6 +87,10 @@ public final class CachedShardingSQLRouter {
         return Optional.of(result);
     }
     
+    private boolean containsShardingHint(final HintValueContext hintValueContext) {
+        return HintManager.isInstantiated() || !hintValueContext.getShardingDatabaseValues().isEmpty() || !hintValueContext.getShardingTableValues().isEmpty();
+    }
+    
     private boolean hitOneShardOnly(final RouteContext routeContext) {
         return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
                 && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
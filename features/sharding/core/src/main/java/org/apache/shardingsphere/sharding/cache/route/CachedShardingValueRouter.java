@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteValueCondition;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteIntervalKey;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cached sharding value router.
+ * 
+ * <p>Route IN list value by value and range as a whole, reuse data nodes cached in interval trees of sharding column, and union the data nodes.</p>
+ */
+@RequiredArgsConstructor
+public final class CachedShardingValueRouter {
+    
+    private final ShardingRouteCache routeCache;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Route value condition.
+     *
+     * @param valueCondition value condition
+     * @param params parameters
+     * @return route context, empty if value condition can not be routed by values
+     */
+    public Optional<RouteContext> route(final ShardingRouteValueCondition valueCondition, final List<Object> params) {
+        for (int each : valueCondition.getParameterMarkerIndexes()) {
+            if (each >= params.size() || !(params.get(each) instanceof Comparable)) {
+                return Optional.empty();
+            }
+        }
+        Optional<Collection<DataNode>> dataNodes = valueCondition.isRange() ? routeRange(valueCondition, params) : routeList(valueCondition, params);
+        return dataNodes.map(optional -> createRouteContext(valueCondition.getLogicTableName(), optional));
+    }
+    
+    private Optional<Collection<DataNode>> routeList(final ShardingRouteValueCondition valueCondition, final List<Object> params) {
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (int each : valueCondition.getParameterMarkerIndexes()) {
+            Comparable<?> value = (Comparable<?>) params.get(each);
+            Optional<Collection<DataNode>> dataNodes = routeValues(valueCondition, Range.singleton(value),
+                    new ListShardingConditionValue<>(valueCondition.getColumnName(), valueCondition.getShardingTable().getLogicTable(), Collections.singletonList(value)), true);
+            if (!dataNodes.isPresent()) {
+                return Optional.empty();
+            }
+            result.addAll(dataNodes.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Collection<DataNode>> routeRange(final ShardingRouteValueCondition valueCondition, final List<Object> params) {
+        Comparable<?> lowerEndpoint = (Comparable<?>) params.get(valueCondition.getParameterMarkerIndexes().get(0));
+        Comparable<?> upperEndpoint = (Comparable<?>) params.get(valueCondition.getParameterMarkerIndexes().get(1));
+        if (lowerEndpoint.getClass() != upperEndpoint.getClass() || lowerEndpoint instanceof CharSequence) {
+            return Optional.empty();
+        }
+        Range<Comparable<?>> range;
+        try {
+            range = Range.range(lowerEndpoint, valueCondition.getLowerBoundType(), upperEndpoint, valueCondition.getUpperBoundType());
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+        if (range.isEmpty()) {
+            return Optional.empty();
+        }
+        return routeValues(valueCondition, range, new RangeShardingConditionValue<>(valueCondition.getColumnName(), valueCondition.getShardingTable().getLogicTable(), range), false);
+    }
+    
+    private Optional<Collection<DataNode>> routeValues(final ShardingRouteValueCondition valueCondition, final Range<Comparable<?>> range,
+                                                       final ShardingConditionValue conditionValue, final boolean cacheMultipleDataNodes) {
+        ShardingRouteIntervalKey intervalKey = new ShardingRouteIntervalKey(valueCondition.getShardingTable().getLogicTable(), valueCondition.getColumnName(), range.lowerEndpoint().getClass());
+        Optional<Collection<DataNode>> cachedResult = routeCache.findDataNodes(intervalKey, range);
+        if (cachedResult.isPresent()) {
+            return cachedResult;
+        }
+        Collection<DataNode> result = routeDataNodes(valueCondition, Collections.singletonList(conditionValue));
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        // A range routed to multiple data nodes does not tell which part of the range belongs to which data node
+        if (cacheMultipleDataNodes || 1 == result.size()) {
+            routeCache.putDataNodes(intervalKey, range, result);
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<DataNode> routeDataNodes(final ShardingRouteValueCondition valueCondition, final Collection<ShardingConditionValue> conditionValues) {
+        ShardingTable shardingTable = valueCondition.getShardingTable();
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (String each : valueCondition.getDatabaseShardingStrategy().doSharding(shardingTable.getActualDataSourceNames(), conditionValues, shardingTable.getDataSourceDataNode(), props)) {
+            if (!shardingTable.getActualDataSourceNames().contains(each)) {
+                return Collections.emptyList();
+            }
+            for (String eachTable : valueCondition.getTableShardingStrategy().doSharding(shardingTable.getActualTableNames(each), conditionValues, shardingTable.getTableDataNode(), props)) {
+                result.add(new DataNode(each, eachTable));
+            }
+        }
+        return result;
+    }
+    
+    private RouteContext createRouteContext(final String logicTableName, final Collection<DataNode> dataNodes) {
+        RouteContext result = new RouteContext();
+        result.getOriginalDataNodes().add(new ArrayList<>(dataNodes));
+        for (DataNode each : dataNodes) {
+            result.getRouteUnits().add(new RouteUnit(new RouteMapper(each.getDataSourceName(), each.getDataSourceName()), Collections.singleton(new RouteMapper(logicTableName, each.getTableName()))));
+        }
+        return result;
+    }
+}
@@ -19,9 +19,14 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cache for sharding route.
@@ -30,8 +35,13 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final Map<ShardingRouteIntervalKey, ShardingRouteIntervalTree> intervalTrees = new ConcurrentHashMap<>();
+    
+    private final int maximumIntervalSize;
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
+        maximumIntervalSize = cacheOptions.getMaximumSize();
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
@@ -61,4 +71,27 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Cache data nodes of sharding column value range.
+     *
+     * @param key interval key
+     * @param range value range
+     * @param dataNodes data nodes which every value inside range is routed to
+     */
+    public void putDataNodes(final ShardingRouteIntervalKey key, final Range<Comparable<?>> range, final Collection<DataNode> dataNodes) {
+        intervalTrees.computeIfAbsent(key, unused -> new ShardingRouteIntervalTree(maximumIntervalSize)).put(range, dataNodes);
+    }
+    
+    /**
+     * Find cached data nodes of sharding column value range.
+     *
+     * @param key interval key
+     * @param range value range
+     * @return optional cached data nodes
+     */
+    public Optional<Collection<DataNode>> findDataNodes(final ShardingRouteIntervalKey key, final Range<Comparable<?>> range) {
+        ShardingRouteIntervalTree intervalTree = intervalTrees.get(key);
+        return null == intervalTree ? Optional.empty() : intervalTree.find(range);
+    }
 }
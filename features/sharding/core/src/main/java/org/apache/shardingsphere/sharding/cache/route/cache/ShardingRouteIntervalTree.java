@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeMap;
+import com.google.common.collect.TreeRangeSet;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Interval tree of sharding route, which maps disjoint value ranges of sharding column to data nodes.
+ * 
+ * <p>Every value inside a cached range is routed to exactly the data nodes mapped to the range, so a queried range covered by cached ranges is routed to the union of their data nodes.</p>
+ */
+public final class ShardingRouteIntervalTree {
+    
+    private final RangeMap<Comparable<?>, Collection<DataNode>> ranges = TreeRangeMap.create();
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final int maximumSize;
+    
+    private int size;
+    
+    public ShardingRouteIntervalTree(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+    
+    /**
+     * Find data nodes of value range.
+     *
+     * @param range value range
+     * @return found data nodes, empty if value range is not fully covered by cached ranges
+     */
+    public Optional<Collection<DataNode>> find(final Range<Comparable<?>> range) {
+        lock.readLock().lock();
+        try {
+            Map<Range<Comparable<?>>, Collection<DataNode>> coveredRanges = ranges.subRangeMap(range).asMapOfRanges();
+            if (coveredRanges.isEmpty()) {
+                return Optional.empty();
+            }
+            if (1 == coveredRanges.size()) {
+                Map.Entry<Range<Comparable<?>>, Collection<DataNode>> entry = coveredRanges.entrySet().iterator().next();
+                return entry.getKey().equals(range) ? Optional.of(entry.getValue()) : Optional.empty();
+            }
+            RangeSet<Comparable<?>> coveredRangeSet = TreeRangeSet.create(coveredRanges.keySet());
+            if (!coveredRangeSet.encloses(range)) {
+                return Optional.empty();
+            }
+            Collection<DataNode> result = new LinkedHashSet<>();
+            coveredRanges.values().forEach(result::addAll);
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Cache data nodes of value range.
+     *
+     * @param range value range
+     * @param dataNodes data nodes which every value inside range is routed to
+     */
+    public void put(final Range<Comparable<?>> range, final Collection<DataNode> dataNodes) {
+        lock.writeLock().lock();
+        try {
+            if (++size > maximumSize) {
+                ranges.clear();
+                size = 1;
+            }
+            ranges.putCoalescing(range, dataNodes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AverageAggregationUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Memory aggregator for group by.
+ * 
+ * <p>Groups are kept in an open addressing table, aggregation states of all groups are kept in flat arrays indexed by group ordinal and aggregation slot.
+ * SUM, COUNT and AVG accumulate integral values into long slots and switch to {@link BigDecimal} on overflow or non-integral values,
+ * MIN and MAX keep the current comparable value, other aggregations fall back to {@link AggregationUnit}.</p>
+ */
+public final class GroupByMemoryAggregator {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final int ACCUMULATION = 0;
+    
+    private static final int AVERAGE = 1;
+    
+    private static final int MIN = 2;
+    
+    private static final int MAX = 3;
+    
+    private static final int UNIT = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int[] kinds;
+    
+    private final int[] slotOffsets;
+    
+    private final int[] valueIndexes;
+    
+    private final int slotCount;
+    
+    private GroupByValue[] tableKeys;
+    
+    private int[] tableOrdinals;
+    
+    private MemoryQueryResultRow[] rows;
+    
+    private long[] longSlots;
+    
+    private BigDecimal[] decimalSlots;
+    
+    private boolean[] presentSlots;
+    
+    private Object[] objectSlots;
+    
+    private int groupCount;
+    
+    public GroupByMemoryAggregator(final SelectStatementContext selectStatementContext) {
+        this(selectStatementContext, INITIAL_CAPACITY);
+    }
+    
+    public GroupByMemoryAggregator(final SelectStatementContext selectStatementContext, final int initialCapacity) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        kinds = new int[aggregationProjections.size()];
+        slotOffsets = new int[aggregationProjections.size()];
+        List<Integer> slotValueIndexes = new ArrayList<>(aggregationProjections.size() * 2);
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            AggregationProjection each = aggregationProjections.get(i);
+            kinds[i] = getKind(each);
+            slotOffsets[i] = slotValueIndexes.size();
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                slotValueIndexes.add(each.getIndex());
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    slotValueIndexes.add(derived.getIndex());
+                }
+            }
+        }
+        valueIndexes = slotValueIndexes.stream().mapToInt(Integer::intValue).toArray();
+        slotCount = valueIndexes.length;
+        int capacity = Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1;
+        tableKeys = new GroupByValue[capacity * 2];
+        tableOrdinals = new int[capacity * 2];
+        allocateStates(capacity);
+    }
+    
+    private int getKind(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return UNIT;
+        }
+        boolean derived = !aggregationProjection.getDerivedAggregationProjections().isEmpty();
+        switch (aggregationProjection.getType()) {
+            case SUM:
+            case COUNT:
+                return derived ? UNIT : ACCUMULATION;
+            case AVG:
+                return 2 == aggregationProjection.getDerivedAggregationProjections().size() ? AVERAGE : UNIT;
+            case MIN:
+                return derived ? UNIT : MIN;
+            case MAX:
+                return derived ? UNIT : MAX;
+            default:
+                return UNIT;
+        }
+    }
+    
+    private void allocateStates(final int groupCapacity) {
+        rows = null == rows ? new MemoryQueryResultRow[groupCapacity] : Arrays.copyOf(rows, groupCapacity);
+        longSlots = null == longSlots ? new long[groupCapacity * slotCount] : Arrays.copyOf(longSlots, groupCapacity * slotCount);
+        decimalSlots = null == decimalSlots ? new BigDecimal[groupCapacity * slotCount] : Arrays.copyOf(decimalSlots, groupCapacity * slotCount);
+        presentSlots = null == presentSlots ? new boolean[groupCapacity * slotCount] : Arrays.copyOf(presentSlots, groupCapacity * slotCount);
+        objectSlots = null == objectSlots ? new Object[groupCapacity * slotCount] : Arrays.copyOf(objectSlots, groupCapacity * slotCount);
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int size() {
+        return groupCount;
+    }
+    
+    /**
+     * Judge whether contains group.
+     *
+     * @param groupByValue group by value
+     * @return contains group or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return null != tableKeys[findTablePosition(groupByValue, spread(groupByValue.hashCode()))];
+    }
+    
+    /**
+     * Aggregate current row of query result into its group.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        int hash = spread(groupByValue.hashCode());
+        int position = findTablePosition(groupByValue, hash);
+        int ordinal;
+        if (null == tableKeys[position]) {
+            ordinal = addGroup(queryResult, groupByValue, position, hash);
+        } else {
+            ordinal = tableOrdinals[position];
+        }
+        int base = ordinal * slotCount;
+        for (int i = 0; i < kinds.length; i++) {
+            int slot = base + slotOffsets[i];
+            switch (kinds[i]) {
+                case ACCUMULATION:
+                    accumulate(slot, getAggregationValue(queryResult, valueIndexes[slotOffsets[i]]));
+                    break;
+                case AVERAGE:
+                    Object count = getAggregationValue(queryResult, valueIndexes[slotOffsets[i]]);
+                    Object sum = getAggregationValue(queryResult, valueIndexes[slotOffsets[i] + 1]);
+                    if (null != count && null != sum) {
+                        accumulate(slot, count);
+                        accumulate(slot + 1, sum);
+                    }
+                    break;
+                case MIN:
+                case MAX:
+                    compareAndSet(slot, getAggregationValue(queryResult, valueIndexes[slotOffsets[i]]), MIN == kinds[i]);
+                    break;
+                default:
+                    mergeUnit(slot, i, queryResult);
+            }
+        }
+    }
+    
+    private static int spread(final int hashCode) {
+        int result = hashCode * 0x9E3779B9;
+        return result ^ (result >>> 16);
+    }
+    
+    private int findTablePosition(final GroupByValue groupByValue, final int hash) {
+        int mask = tableKeys.length - 1;
+        int result = hash & mask;
+        while (null != tableKeys[result] && !tableKeys[result].equals(groupByValue)) {
+            result = (result + 1) & mask;
+        }
+        return result;
+    }
+    
+    private int addGroup(final QueryResult queryResult, final GroupByValue groupByValue, final int position, final int hash) throws SQLException {
+        int result = groupCount++;
+        if (result == rows.length) {
+            allocateStates(rows.length * 2);
+        }
+        rows[result] = new MemoryQueryResultRow(queryResult);
+        tableKeys[position] = groupByValue;
+        tableOrdinals[position] = result;
+        if (groupCount * 2 > tableKeys.length) {
+            rehash();
+        }
+        return result;
+    }
+    
+    private void rehash() {
+        GroupByValue[] oldKeys = tableKeys;
+        int[] oldOrdinals = tableOrdinals;
+        tableKeys = new GroupByValue[oldKeys.length * 2];
+        tableOrdinals = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null != oldKeys[i]) {
+                int position = findTablePosition(oldKeys[i], spread(oldKeys[i].hashCode()));
+                tableKeys[position] = oldKeys[i];
+                tableOrdinals[position] = oldOrdinals[i];
+            }
+        }
+    }
+    
+    private Object getAggregationValue(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        Object result = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return result;
+    }
+    
+    private void accumulate(final int slot, final Object value) {
+        if (null == value) {
+            return;
+        }
+        presentSlots[slot] = true;
+        if (null == decimalSlots[slot] && isIntegral(value)) {
+            long current = longSlots[slot];
+            long addend = ((Number) value).longValue();
+            long sum = current + addend;
+            if (((current ^ sum) & (addend ^ sum)) >= 0) {
+                longSlots[slot] = sum;
+                return;
+            }
+        }
+        if (null == decimalSlots[slot]) {
+            decimalSlots[slot] = BigDecimal.valueOf(longSlots[slot]);
+        }
+        decimalSlots[slot] = decimalSlots[slot].add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void compareAndSet(final int slot, final Object value, final boolean asc) {
+        if (null == value) {
+            return;
+        }
+        Object current = objectSlots[slot];
+        if (null == current) {
+            objectSlots[slot] = value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(current);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            objectSlots[slot] = value;
+        }
+    }
+    
+    private void mergeUnit(final int slot, final int projectionOrdinal, final QueryResult queryResult) throws SQLException {
+        AggregationProjection aggregationProjection = aggregationProjections.get(projectionOrdinal);
+        if (null == objectSlots[slot]) {
+            objectSlots[slot] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection);
+        }
+        int valueCount = aggregationProjection.getDerivedAggregationProjections().isEmpty() ? 1 : aggregationProjection.getDerivedAggregationProjections().size();
+        List<Comparable<?>> values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            values.add((Comparable<?>) getAggregationValue(queryResult, valueIndexes[slotOffsets[projectionOrdinal] + i]));
+        }
+        ((AggregationUnit) objectSlots[slot]).merge(values);
+    }
+    
+    /**
+     * Get aggregated rows.
+     * 
+     * <p>If there is no group, the aggregation result of empty input is returned, which is one row with zero count when COUNT is projected.</p>
+     *
+     * @return aggregated rows, not sorted
+     */
+    public List<MemoryQueryResultRow> getRows() {
+        if (0 == groupCount) {
+            Object[] data = generateReturnData();
+            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(groupCount);
+        for (int ordinal = 0; ordinal < groupCount; ordinal++) {
+            for (int i = 0; i < kinds.length; i++) {
+                rows[ordinal].setCell(aggregationProjections.get(i).getIndex(), getAggregationResult(ordinal * slotCount + slotOffsets[i], kinds[i]));
+            }
+            result.add(rows[ordinal]);
+        }
+        return result;
+    }
+    
+    private Object getAggregationResult(final int slot, final int kind) {
+        switch (kind) {
+            case ACCUMULATION:
+                return getAccumulationResult(slot);
+            case AVERAGE:
+                return AverageAggregationUnit.getAverage(getAccumulationResult(slot), getAccumulationResult(slot + 1));
+            case MIN:
+            case MAX:
+                return objectSlots[slot];
+            default:
+                return null == objectSlots[slot] ? null : ((AggregationUnit) objectSlots[slot]).getResult();
+        }
+    }
+    
+    private BigDecimal getAccumulationResult(final int slot) {
+        if (!presentSlots[slot]) {
+            return null;
+        }
+        return null == decimalSlots[slot] ? BigDecimal.valueOf(longSlots[slot]) : decimalSlots[slot];
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Temporary file of rows spilled by group by merge.
+ *
+ * <p>Rows are appended first, then read back once in written order. Values are written by {@link GroupBySpillValueCodec}.
+ * The file is deleted when all rows have been read or when it is closed.</p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private final Path file;
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    private int writtenRowCount;
+    
+    private int readRowCount;
+    
+    private boolean closed;
+    
+    public GroupBySpillFile() {
+        try {
+            file = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+        try {
+            outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        } catch (final IOException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     */
+    public void write(final Object[] row) {
+        try {
+            outputStream.writeInt(row.length);
+            for (Object each : row) {
+                GroupBySpillValueCodec.write(outputStream, each);
+            }
+            writtenRowCount++;
+        } catch (final IOException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows have been read
+     */
+    public Object[] read() {
+        if (closed) {
+            return null;
+        }
+        if (readRowCount >= writtenRowCount) {
+            close();
+            return null;
+        }
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+                outputStream = null;
+                inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            }
+            Object[] result = new Object[inputStream.readInt()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = GroupBySpillValueCodec.read(inputStream);
+            }
+            readRowCount++;
+            return result;
+        } catch (final IOException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } catch (final IOException ignored) {
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+}
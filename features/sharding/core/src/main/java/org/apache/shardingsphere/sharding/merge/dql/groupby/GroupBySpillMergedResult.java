@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Spill merged result for group by.
+ * 
+ * <p>At most max groups in memory groups are aggregated in memory, rows of other groups are sorted externally by hash code of group by value,
+ * then aggregated by streaming over rows with same hash code, so only groups sharing one hash code are held in memory at a time.
+ * Aggregated rows are sorted externally again by order by items. Temporary files are deleted when they are read through or when this result is closed.</p>
+ */
+public final class GroupBySpillMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    private final Collection<GroupBySpillSorter> sorters;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxGroupsInMemory) throws SQLException {
+        this(queryResults, selectStatementContext, schema, maxGroupsInMemory, new LinkedList<>());
+    }
+    
+    private GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final int maxGroupsInMemory, final Collection<GroupBySpillSorter> sorters) throws SQLException {
+        super(merge(queryResults, selectStatementContext, schema, maxGroupsInMemory, sorters));
+        this.sorters = sorters;
+    }
+    
+    private static Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                        final ShardingSphereSchema schema, final int maxGroupsInMemory, final Collection<GroupBySpillSorter> sorters) throws SQLException {
+        try {
+            return merge0(queryResults, selectStatementContext, schema, maxGroupsInMemory, sorters);
+        } catch (final SQLException | RuntimeException ex) {
+            close(sorters);
+            throw ex;
+        }
+    }
+    
+    private static Iterator<MemoryQueryResultRow> merge0(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                         final ShardingSphereSchema schema, final int maxGroupsInMemory, final Collection<GroupBySpillSorter> sorters) throws SQLException {
+        int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        GroupBySpillSorter spilledRows = createSorter(sorters, (o1, o2) -> Integer.compare((Integer) o1[columnCount], (Integer) o2[columnCount]), maxGroupsInMemory);
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(selectStatementContext);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (aggregator.size() < maxGroupsInMemory || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                } else {
+                    spilledRows.add(loadRow(each, columnCount, groupByValue.hashCode()));
+                }
+            }
+        }
+        List<MemoryQueryResultRow> memoryRows = aggregator.getRows();
+        if (0 == aggregator.size()) {
+            return memoryRows.iterator();
+        }
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, queryResults.get(0), schema);
+        if (spilledRows.isEmpty()) {
+            memoryRows.sort(rowComparator);
+            return memoryRows.iterator();
+        }
+        GroupBySpillSorter aggregatedRows = createSorter(sorters, (o1, o2) -> rowComparator.compare(new MemoryQueryResultRow(o1), new MemoryQueryResultRow(o2)), maxGroupsInMemory);
+        for (Object[] each : toArrays(memoryRows, columnCount)) {
+            aggregatedRows.add(each);
+        }
+        aggregateSpilledRows(spilledRows.sort(), queryResults.get(0).getMetaData(), selectStatementContext, columnCount, aggregatedRows);
+        return Iterators.transform(aggregatedRows.sort(), MemoryQueryResultRow::new);
+    }
+    
+    private static GroupBySpillSorter createSorter(final Collection<GroupBySpillSorter> sorters, final Comparator<Object[]> comparator, final int maxRowsInMemory) {
+        GroupBySpillSorter result = new GroupBySpillSorter(comparator, maxRowsInMemory);
+        sorters.add(result);
+        return result;
+    }
+    
+    private static Object[] loadRow(final QueryResult queryResult, final int columnCount, final int hashCode) throws SQLException {
+        Object[] result = new Object[columnCount + 1];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        result[columnCount] = hashCode;
+        return result;
+    }
+    
+    private static List<Object[]> toArrays(final List<MemoryQueryResultRow> memoryRows, final int columnCount) {
+        List<Object[]> result = new ArrayList<>(memoryRows.size());
+        for (MemoryQueryResultRow each : memoryRows) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    private static void aggregateSpilledRows(final Iterator<Object[]> spilledRows, final QueryResultMetaData metaData, final SelectStatementContext selectStatementContext,
+                                             final int columnCount, final GroupBySpillSorter aggregatedRows) throws SQLException {
+        PeekingIterator<Object[]> peekingRows = Iterators.peekingIterator(spilledRows);
+        GroupBySpillQueryResult queryResult = new GroupBySpillQueryResult(peekingRows, metaData);
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        while (peekingRows.hasNext()) {
+            Object hashCode = peekingRows.peek()[columnCount];
+            GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(selectStatementContext, 1);
+            while (peekingRows.hasNext() && hashCode.equals(peekingRows.peek()[columnCount])) {
+                queryResult.next();
+                aggregator.aggregate(queryResult, new GroupByValue(queryResult, groupByItems));
+            }
+            for (Object[] each : toArrays(aggregator.getRows(), columnCount)) {
+                aggregatedRows.add(each);
+            }
+        }
+    }
+    
+    private static void close(final Collection<GroupBySpillSorter> sorters) {
+        sorters.forEach(GroupBySpillSorter::close);
+        sorters.clear();
+    }
+    
+    @Override
+    public void close() {
+        close(sorters);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External sorter of rows spilled by group by merge.
+ *
+ * <p>At most max rows in memory rows are buffered, a full buffer is sorted and written as a sorted run.
+ * Once max merge width runs are written, they are merged into one run, so the number of open runs is bounded.
+ * Sorted rows are read by merging all runs.</p>
+ */
+public final class GroupBySpillSorter implements AutoCloseable {
+    
+    private static final int MAX_MERGE_WIDTH = 64;
+    
+    private final Comparator<Object[]> comparator;
+    
+    private final int maxRowsInMemory;
+    
+    private final Collection<GroupBySpillFile> runs = new LinkedList<>();
+    
+    private List<Object[]> buffer = new ArrayList<>();
+    
+    public GroupBySpillSorter(final Comparator<Object[]> comparator, final int maxRowsInMemory) {
+        this.comparator = comparator;
+        this.maxRowsInMemory = Math.max(1, maxRowsInMemory);
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     */
+    public void add(final Object[] row) {
+        buffer.add(row);
+        if (buffer.size() >= maxRowsInMemory) {
+            buffer.sort(comparator);
+            runs.add(writeRun(buffer.iterator()));
+            buffer = new ArrayList<>();
+            if (runs.size() >= MAX_MERGE_WIDTH) {
+                GroupBySpillFile mergedRun = writeRun(merge());
+                runs.clear();
+                runs.add(mergedRun);
+            }
+        }
+    }
+    
+    private GroupBySpillFile writeRun(final Iterator<Object[]> rows) {
+        GroupBySpillFile result = new GroupBySpillFile();
+        try {
+            while (rows.hasNext()) {
+                result.write(rows.next());
+            }
+        } catch (final RuntimeException ex) {
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether no row has been added.
+     *
+     * @return no row has been added or not
+     */
+    public boolean isEmpty() {
+        return runs.isEmpty() && buffer.isEmpty();
+    }
+    
+    /**
+     * Get sorted rows.
+     *
+     * <p>If any row has been written to disk, rows left in buffer are written too, so all rows are read back by the same value codec.
+     * Rows can be read only once, every run is deleted after all its rows have been read.</p>
+     *
+     * @return sorted rows
+     */
+    public Iterator<Object[]> sort() {
+        buffer.sort(comparator);
+        if (runs.isEmpty()) {
+            return buffer.iterator();
+        }
+        if (!buffer.isEmpty()) {
+            runs.add(writeRun(buffer.iterator()));
+            buffer = new ArrayList<>();
+        }
+        return merge();
+    }
+    
+    private Iterator<Object[]> merge() {
+        PriorityQueue<SortedRun> sortedRuns = new PriorityQueue<>(runs.size(), Comparator.comparing(SortedRun::getCurrent, comparator));
+        for (GroupBySpillFile each : runs) {
+            offer(sortedRuns, new SortedRun(each));
+        }
+        return new Iterator<Object[]>() {
+            
+            @Override
+            public boolean hasNext() {
+                return !sortedRuns.isEmpty();
+            }
+            
+            @Override
+            public Object[] next() {
+                SortedRun sortedRun = sortedRuns.poll();
+                if (null == sortedRun) {
+                    throw new NoSuchElementException();
+                }
+                Object[] result = sortedRun.getCurrent();
+                offer(sortedRuns, sortedRun);
+                return result;
+            }
+        };
+    }
+    
+    private void offer(final PriorityQueue<SortedRun> sortedRuns, final SortedRun sortedRun) {
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+    }
+    
+    @Override
+    public void close() {
+        buffer = new ArrayList<>();
+        runs.forEach(GroupBySpillFile::close);
+        runs.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRun {
+        
+        private final GroupBySpillFile spillFile;
+        
+        @Getter
+        private Object[] current;
+        
+        boolean next() {
+            current = spillFile.read();
+            return null != current;
+        }
+    }
+}
@@ -50,6 +50,17 @@ public final class AverageAggregationUnit implements AggregationUnit {
     
     @Override
     public Comparable<?> getResult() {
+        return getAverage(count, sum);
+    }
+    
+    /**
+     * Get average.
+     *
+     * @param count count
+     * @param sum sum
+     * @return average, count if count is null or zero
+     */
+    public static BigDecimal getAverage(final BigDecimal count, final BigDecimal sum) {
         if (null == count || BigDecimal.ZERO.equals(count)) {
             return count;
         }
@@ -20,17 +20,21 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,14 +54,56 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final boolean[] integralColumns;
+    
+    private final long[] integralOrderValues;
+    
     private List<Comparable<?>> orderValues;
     
+    private boolean integral;
+    
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            i++;
+        }
+        integralColumns = getIntegralColumns(queryResult.getMetaData());
+        integralOrderValues = new long[orderByItems.size()];
+    }
+    
+    private boolean[] getIntegralColumns(final QueryResultMetaData metaData) throws SQLException {
+        boolean[] result = new boolean[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            result[i++] = isIntegralColumn(metaData, each.getIndex());
+        }
+        return result;
+    }
+    
+    private boolean isIntegralColumn(final QueryResultMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return true;
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex);
+            default:
+                return false;
+        }
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,30 +145,69 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        integral = result && loadIntegralOrderValues();
+        orderValues = result && !integral ? getOrderValues() : Collections.emptyList();
         return result;
     }
     
+    private boolean loadIntegralOrderValues() throws SQLException {
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            if (!integralColumns[i]) {
+                return false;
+            }
+            integralOrderValues[i] = queryResult.getLong(each.getIndex());
+            if (queryResult.wasNull()) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+    
     private List<Comparable<?>> getOrderValues() throws SQLException {
         List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+        int i = 0;
         for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
-            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            result.add(getOrderValue(each.getIndex(), i++));
         }
         return result;
     }
     
+    private Comparable<?> getOrderValue(final int columnIndex, final int orderByItemIndex) throws SQLException {
+        if (integralColumns[orderByItemIndex]) {
+            long result = queryResult.getLong(columnIndex);
+            return queryResult.wasNull() ? null : result;
+        }
+        Object result = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Order by", result));
+        return (Comparable<?>) result;
+    }
+    
+    private Comparable<?> getComparableOrderValue(final int orderByItemIndex) {
+        return integral ? (Comparable<?>) integralOrderValues[orderByItemIndex] : orderValues.get(orderByItemIndex);
+    }
+    
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        if (integral && orderByValue.integral) {
+            return compareIntegralValues(orderByValue);
+        }
+        for (int i = 0; i < orderDirections.length; i++) {
+            int result = CompareUtils.compareTo(getComparableOrderValue(i), orderByValue.getComparableOrderValue(i), orderDirections[i], nullsOrderTypes[i], orderValuesCaseSensitive.get(i));
             if (0 != result) {
                 return result;
             }
-            i++;
+        }
+        return 0;
+    }
+    
+    private int compareIntegralValues(final OrderByValue orderByValue) {
+        for (int i = 0; i < orderDirections.length; i++) {
+            int result = Long.compare(integralOrderValues[i], orderByValue.integralOrderValues[i]);
+            if (0 != result) {
+                return OrderDirection.ASC == orderDirections[i] ? result : -result;
+            }
         }
         return 0;
     }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values for k-way merge.
+ * 
+ * <p>Each leaf is an order by value of one query result, and each internal node keeps the loser of the match between its children.
+ * Advancing the winner only replays the matches on the path from its leaf to the root, which needs log2(k) comparisons without re-offering.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int MIN_SENTINEL = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[leaves.length];
+        remaining = leaves.length;
+        winner = MIN_SENTINEL;
+        for (int i = 0; i < losers.length; i++) {
+            losers[i] = MIN_SENTINEL;
+        }
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get current smallest order by value.
+     *
+     * @return current smallest order by value, null if empty
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : leaves[winner];
+    }
+    
+    /**
+     * Move current smallest order by value to its next row and replay matches.
+     *
+     * @return has next order by value or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+            remaining--;
+        }
+        adjust(winner);
+        return !isEmpty();
+    }
+    
+    private void adjust(final int leafIndex) {
+        int current = leafIndex;
+        for (int parent = (leafIndex + leaves.length) >> 1; parent > 0; parent >>= 1) {
+            if (isLoser(current, losers[parent])) {
+                int swap = losers[parent];
+                losers[parent] = current;
+                current = swap;
+            }
+        }
+        winner = current;
+    }
+    
+    private boolean isLoser(final int leafIndex, final int opponentIndex) {
+        if (MIN_SENTINEL == opponentIndex) {
+            return true;
+        }
+        if (MIN_SENTINEL == leafIndex) {
+            return false;
+        }
+        OrderByValue leaf = leaves[leafIndex];
+        OrderByValue opponent = leaves[opponentIndex];
+        if (null == leaf || null == opponent) {
+            return null == leaf && null != opponent;
+        }
+        return leaf.compareTo(opponent) > 0;
+    }
+}
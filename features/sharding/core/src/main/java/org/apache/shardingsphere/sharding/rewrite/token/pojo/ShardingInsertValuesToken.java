@@ -34,9 +34,8 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     
     @Override
     public String toString(final RouteUnit routeUnit) {
-        StringBuilder result = new StringBuilder();
+        StringBuilder result = new StringBuilder(getStopIndex() - getStartIndex() + 1);
         appendInsertValue(routeUnit, result);
-        result.delete(result.length() - 2, result.length());
         return result.toString();
     }
     
@@ -46,9 +45,14 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
+        boolean first = true;
         for (InsertValue each : getInsertValues()) {
             if (isAppend(routeUnit, (ShardingInsertValue) each)) {
-                stringBuilder.append(each).append(", ");
+                if (!first) {
+                    stringBuilder.append(", ");
+                }
+                each.appendTo(stringBuilder);
+                first = false;
             }
         }
     }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedShardingDataSourceRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.NoShardingDatabaseRouteInfoException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -40,6 +41,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
@@ -48,6 +50,7 @@ import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -247,6 +250,10 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     private Collection<DataNode> route0(final ShardingTable shardingTable,
                                         final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
                                         final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        Optional<Map<String, String>> actualTableDataSourceNames = shardingTable.findActualTableDataSourceNames();
+        if (databaseShardingValues.isEmpty() && !tableShardingValues.isEmpty() && actualTableDataSourceNames.isPresent() && isAutoTableShardingStrategy(tableShardingStrategy)) {
+            return routeTables(shardingTable, actualTableDataSourceNames.get(), tableShardingStrategy, tableShardingValues);
+        }
         Collection<String> routedDataSources = routeDataSources(shardingTable, databaseShardingStrategy, databaseShardingValues);
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedDataSources) {
@@ -279,6 +286,25 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private boolean isAutoTableShardingStrategy(final ShardingStrategy tableShardingStrategy) {
+        return tableShardingStrategy instanceof StandardShardingStrategy && ((StandardShardingStrategy) tableShardingStrategy).getShardingAlgorithm() instanceof ShardingAutoTableAlgorithm;
+    }
+    
+    private Collection<DataNode> routeTables(final ShardingTable shardingTable, final Map<String, String> actualTableDataSourceNames,
+                                             final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        Collection<String> routedTables = tableShardingStrategy.doSharding(actualTableDataSourceNames.keySet(), tableShardingValues, shardingTable.getTableDataNode(), props);
+        Map<String, Collection<DataNode>> routedDataNodes = new LinkedHashMap<>(routedTables.size(), 1F);
+        for (String each : routedTables) {
+            String dataSourceName = actualTableDataSourceNames.get(each);
+            routedDataNodes.computeIfAbsent(dataSourceName, key -> new LinkedList<>()).add(new DataNode(dataSourceName, each));
+        }
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : shardingTable.getActualDataSourceNames()) {
+            result.addAll(routedDataNodes.getOrDefault(each, Collections.emptyList()));
+        }
+        return result;
+    }
+    
     private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
                                                     final String defaultShardingColumn) {
         return null == shardingStrategyConfig ? new NoneShardingStrategy()
@@ -21,6 +21,7 @@ import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
@@ -53,6 +54,7 @@ import org.apache.shardingsphere.sharding.exception.metadata.DuplicateSharingAct
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingSQLPlanCacheRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableMapperRuleAttribute;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAuditAlgorithm;
@@ -85,7 +87,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DatabaseRule {
+public final class ShardingRule implements DatabaseRule, AutoCloseable {
     
     private static final String ALGORITHM_EXPRESSION_KEY = "algorithm-expression";
     
@@ -142,7 +144,10 @@ public final class ShardingRule implements DatabaseRule {
             ((InstanceContextAware) defaultKeyGenerateAlgorithm).setInstanceContext(instanceContext);
         }
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableMapperRuleAttribute(shardingTables.values()));
+        attributes = null == shardingCache
+                ? new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableMapperRuleAttribute(shardingTables.values()))
+                : new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableMapperRuleAttribute(shardingTables.values()),
+                        new ShardingSQLPlanCacheRuleAttribute(shardingCache));
     }
     
     private void validateUniqueActualDataNodesInTableRules() {
@@ -726,4 +731,14 @@ public final class ShardingRule implements DatabaseRule {
         BinaryOperationExpression binaryExpression = (BinaryOperationExpression) expression;
         return binaryExpression.getLeft() instanceof ColumnSegment && binaryExpression.getRight() instanceof ColumnSegment && "=".equals(binaryExpression.getOperator());
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        for (KeyGenerateAlgorithm each : keyGenerators.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
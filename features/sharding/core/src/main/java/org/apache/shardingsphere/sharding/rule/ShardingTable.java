@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -54,7 +55,7 @@ import java.util.stream.Collectors;
  * Sharding table.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
+@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDataSourceNames", "actualTableDataSourceNames", "dataSourceDataNode", "tableDataNode"})
 public final class ShardingTable {
     
     private static final Pattern DATA_NODE_SUFFIX_PATTERN = Pattern.compile("\\d+$");
@@ -86,6 +87,9 @@ public final class ShardingTable {
     
     private final Map<String, Collection<String>> dataSourceToTablesMap = new HashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> actualTableDataSourceNames;
+    
     private final DataNodeInfo dataSourceDataNode;
     
     private final DataNodeInfo tableDataNode;
@@ -95,6 +99,7 @@ public final class ShardingTable {
         dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1F);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
         actualTables = getActualTables();
+        actualTableDataSourceNames = createActualTableDataSourceNames();
         databaseShardingStrategyConfig = null;
         tableShardingStrategyConfig = null;
         auditStrategyConfig = null;
@@ -110,6 +115,7 @@ public final class ShardingTable {
         dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1F);
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
+        actualTableDataSourceNames = createActualTableDataSourceNames();
         databaseShardingStrategyConfig = tableRuleConfig.getDatabaseShardingStrategy();
         tableShardingStrategyConfig = tableRuleConfig.getTableShardingStrategy();
         auditStrategyConfig = tableRuleConfig.getAuditStrategy();
@@ -131,6 +137,7 @@ public final class ShardingTable {
         dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1F);
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
+        actualTableDataSourceNames = createActualTableDataSourceNames();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
         generateKeyColumn = null == keyGeneratorConfig || Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? defaultGenerateKeyColumn : keyGeneratorConfig.getColumn();
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
@@ -166,6 +173,19 @@ public final class ShardingTable {
         return actualDataNodes.stream().map(DataNode::getTableName).collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
     }
     
+    private Map<String, String> createActualTableDataSourceNames() {
+        if (actualDataSourceNames.size() < 2) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> result = new LinkedHashMap<>(actualDataNodes.size(), 1F);
+        for (DataNode each : actualDataNodes) {
+            if (null != result.putIfAbsent(each.getTableName(), each.getDataSourceName())) {
+                return Collections.emptyMap();
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private void addActualTable(final String datasourceName, final String tableName) {
         dataSourceToTablesMap.computeIfAbsent(datasourceName, key -> new LinkedHashSet<>()).add(tableName);
     }
@@ -233,6 +253,18 @@ public final class ShardingTable {
         return dataSourceToTablesMap.getOrDefault(targetDataSource, Collections.emptySet());
     }
     
+    /**
+     * Find actual table and data source names map.
+     *
+     * <p>The map is only present when actual tables spread over multiple data sources and every actual table name belongs to a single data source,
+     * so that the data source of a routed actual table can be looked up directly instead of routing each data source separately.</p>
+     *
+     * @return actual table and data source names map, key is actual table name, value is data source name
+     */
+    public Optional<Map<String, String>> findActualTableDataSourceNames() {
+        return actualTableDataSourceNames.isEmpty() ? Optional.empty() : Optional.of(actualTableDataSourceNames);
+    }
+    
     /**
      * Find actual table index.
      * 
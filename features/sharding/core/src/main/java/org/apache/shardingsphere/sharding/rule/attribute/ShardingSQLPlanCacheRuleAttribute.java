@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlanCacheRuleAttribute;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.plan.ShardingSQLPlanCacheValue;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding SQL plan cache rule attribute.
+ */
+@RequiredArgsConstructor
+public final class ShardingSQLPlanCacheRuleAttribute implements SQLPlanCacheRuleAttribute {
+    
+    private final ShardingCache shardingCache;
+    
+    @Override
+    public Optional<SQLPlan> find(final QueryContext queryContext, final ShardingSphereDatabase database) {
+        if (containsHint(queryContext.getHintValueContext())) {
+            return Optional.empty();
+        }
+        return findCacheKey(queryContext, database).flatMap(optional -> shardingCache.getPlanCache().get(optional)).flatMap(optional -> optional.getCachedSQLPlan(queryContext.getParameters()));
+    }
+    
+    @Override
+    public void put(final QueryContext queryContext, final ShardingSphereDatabase database, final SQLPlan sqlPlan) {
+        if (containsHint(queryContext.getHintValueContext()) || !hitOneShardOnly(sqlPlan.getRouteContext()) || !isRewrittenByShardingOnly(database)) {
+            return;
+        }
+        Optional<SQLRewriteUnit> sqlRewriteUnit = findReusableSQLRewriteUnit(sqlPlan, queryContext.getParameters());
+        if (!sqlRewriteUnit.isPresent()) {
+            return;
+        }
+        findCacheKey(queryContext, database).ifPresent(optional -> shardingCache.getPlanCache().put(
+                optional, new ShardingSQLPlanCacheValue(new ShardingRouteCacheValue(sqlPlan.getRouteContext()), sqlRewriteUnit.get().getSql())));
+    }
+    
+    private boolean containsHint(final HintValueContext hintValueContext) {
+        return HintManager.isInstantiated() || hintValueContext.findHintDataSourceName().isPresent() || !hintValueContext.getShardingDatabaseValues().isEmpty()
+                || !hintValueContext.getShardingTableValues().isEmpty() || hintValueContext.isWriteRouteOnly() || hintValueContext.isSkipSQLRewrite() || hintValueContext.isShadow();
+    }
+    
+    private Optional<ShardingRouteCacheKey> findCacheKey(final QueryContext queryContext, final ShardingSphereDatabase database) {
+        if (queryContext.getSql().length() > shardingCache.getConfiguration().getAllowedMaxSqlLength()) {
+            return Optional.empty();
+        }
+        ShardingRouteCacheableCheckResult cacheableCheckResult = shardingCache.getRouteCacheableChecker().check(database, queryContext);
+        if (!cacheableCheckResult.isProbablyCacheable()) {
+            return Optional.empty();
+        }
+        List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
+        for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
+            if (each >= queryContext.getParameters().size()) {
+                return Optional.empty();
+            }
+            shardingConditionParams.add(queryContext.getParameters().get(each));
+        }
+        return Optional.of(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams));
+    }
+    
+    private boolean hitOneShardOnly(final RouteContext routeContext) {
+        if (1 != routeContext.getRouteUnits().size() || 1 != routeContext.getOriginalDataNodes().size() || 1 != routeContext.getOriginalDataNodes().iterator().next().size()) {
+            return false;
+        }
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        return 1 == routeUnit.getTableMappers().size() && routeUnit.getDataSourceMapper().getLogicName().equals(routeUnit.getDataSourceMapper().getActualName());
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private boolean isRewrittenByShardingOnly(final ShardingSphereDatabase database) {
+        for (ShardingSphereRule each : OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules()).keySet()) {
+            if (!(each instanceof ShardingRule)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<SQLRewriteUnit> findReusableSQLRewriteUnit(final SQLPlan sqlPlan, final List<Object> params) {
+        if (!(sqlPlan.getSqlRewriteResult() instanceof RouteSQLRewriteResult) || 1 != ((RouteSQLRewriteResult) sqlPlan.getSqlRewriteResult()).getSqlRewriteUnits().size()) {
+            return Optional.empty();
+        }
+        SQLRewriteUnit result = ((RouteSQLRewriteResult) sqlPlan.getSqlRewriteResult()).getSqlRewriteUnits().values().iterator().next();
+        return result.getParameters().equals(params) ? Optional.of(result) : Optional.empty();
+    }
+}
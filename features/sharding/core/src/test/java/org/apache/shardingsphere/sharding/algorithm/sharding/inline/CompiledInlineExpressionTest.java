@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertEvaluateSameAsGroovy() {
+        Collection<String> expressions = Arrays.asList("t_order_${order_id % 4}", "t_order_${ (order_id % 4).abs() }", "t_order_${Math.abs(order_id.hashCode()) % 4}",
+                "t_order_${order_id.hashCode() % 4}", "ds_${order_id % 2 + 1}_t_${order_id * 3 - -2 % 5}", "t_order_${order_id}", "t_order_${order_id % 2147483648}");
+        Collection<Comparable<?>> values = Arrays.asList(0, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 9L, -9999999999L, Long.MIN_VALUE, (short) 3, (byte) -3);
+        for (String each : expressions) {
+            CompiledInlineExpression compiledInlineExpression = CompiledInlineExpression.compile(each).orElseThrow(IllegalStateException::new);
+            for (Comparable<?> value : values) {
+                Map<String, Comparable<?>> args = Collections.singletonMap("order_id", value);
+                assertThat(each + " with " + value, compiledInlineExpression.evaluate(args).orElseThrow(IllegalStateException::new),
+                        is(InlineExpressionParserFactory.newInstance(each).evaluateWithArgs(args)));
+            }
+        }
+    }
+    
+    @Test
+    void assertEvaluateHashCodeOfStringSameAsGroovy() {
+        String expression = "t_user_${Math.abs(user_name.hashCode()) % 8}";
+        Map<String, Comparable<?>> args = Collections.singletonMap("user_name", "foo_user");
+        assertThat(CompiledInlineExpression.compile(expression).orElseThrow(IllegalStateException::new).evaluate(args).orElseThrow(IllegalStateException::new),
+                is(InlineExpressionParserFactory.newInstance(expression).evaluateWithArgs(args)));
+    }
+    
+    @Test
+    void assertEvaluateWithMultipleColumns() {
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("type", 3);
+        args.put("order_id", 4L);
+        assertThat(CompiledInlineExpression.compile("t_order_${type % 2}_${order_id % 2}").orElseThrow(IllegalStateException::new).evaluate(args).orElseThrow(IllegalStateException::new),
+                is("t_order_1_0"));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledInlineExpression = CompiledInlineExpression.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("order_id", new BigDecimal("1.5"))).isPresent());
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertTrue(CompiledInlineExpression.compile("t_order_${order_id % 4}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 4}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 010}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 4.0}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.substring(1)}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${foo(order_id)}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 4").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_\"order_${order_id % 4}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$order_id").isPresent());
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.cache.checker;
 
+import com.google.common.collect.BoundType;
 import org.apache.groovy.util.Maps;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
@@ -51,6 +52,7 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -62,12 +64,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ShardingRouteCacheableCheckerTest {
@@ -87,6 +92,28 @@ class ShardingRouteCacheableCheckerTest {
         assertThat(actual.getShardingConditionParameterMarkerIndexes(), is(expectedShardingConditionParameterMarkerIndexes));
     }
     
+    @Test
+    void assertCheckValueCondition() {
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase(shardingRule, createTimeServiceRule());
+        ShardingRouteCacheableChecker checker = new ShardingRouteCacheableChecker(shardingRule.getShardingCache());
+        Optional<ShardingRouteValueCondition> actualInList = checker.check(database, createQueryContext(database, "select * from t_warehouse where id in (?, ?, ?)", Arrays.asList(1, 2, 3)))
+                .findValueCondition();
+        assertTrue(actualInList.isPresent());
+        assertFalse(actualInList.get().isRange());
+        assertThat(actualInList.get().getParameterMarkerIndexes(), is(Arrays.asList(0, 1, 2)));
+        Optional<ShardingRouteValueCondition> actualRange = checker.check(database, createQueryContext(database, "select * from t_warehouse where id between ? and ?", Arrays.asList(1, 10)))
+                .findValueCondition();
+        assertTrue(actualRange.isPresent());
+        assertTrue(actualRange.get().isRange());
+        assertThat(actualRange.get().getParameterMarkerIndexes(), is(Arrays.asList(0, 1)));
+        assertThat(actualRange.get().getLowerBoundType(), is(BoundType.CLOSED));
+        assertThat(actualRange.get().getUpperBoundType(), is(BoundType.CLOSED));
+        assertFalse(checker.check(database, createQueryContext(database, "select * from t_warehouse where id = ?", Collections.singletonList(1))).findValueCondition().isPresent());
+        assertFalse(checker.check(database, createQueryContext(database, "select * from t_warehouse where id in (?, 2)", Collections.singletonList(1))).findValueCondition().isPresent());
+        assertFalse(checker.check(database, createQueryContext(database, "delete from t_warehouse where id in (?, ?)", Arrays.asList(1, 2))).findValueCondition().isPresent());
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
         ruleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "t_order,t_order_item"));
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.groovy.util.Maps;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteValueCondition;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteIntervalKey;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CachedShardingValueRouterTest {
+    
+    private final ShardingRule shardingRule = createShardingRule();
+    
+    private final ShardingRouteCache routeCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 16, 16));
+    
+    private final CachedShardingValueRouter router = new CachedShardingValueRouter(routeCache, new ConfigurationProperties(new Properties()));
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getShardingAlgorithms().put("mod", new AlgorithmConfiguration("MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        ruleConfig.getShardingAlgorithms().put("boundary", new AlgorithmConfiguration("BOUNDARY_RANGE", PropertiesBuilder.build(new Property("sharding-ranges", "10,20"))));
+        ShardingAutoTableRuleConfiguration order = new ShardingAutoTableRuleConfiguration("t_order", "ds_${0..1}");
+        order.setShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "mod"));
+        ruleConfig.getAutoTables().add(order);
+        ShardingAutoTableRuleConfiguration log = new ShardingAutoTableRuleConfiguration("t_log", "ds_${0..1}");
+        log.setShardingStrategy(new StandardShardingStrategyConfiguration("id", "boundary"));
+        ruleConfig.getAutoTables().add(log);
+        return new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()),
+                new InstanceContext(mock(ComputeNodeInstance.class), props -> 0, null, null, null, null));
+    }
+    
+    @Test
+    void assertRouteInList() {
+        ShardingRouteValueCondition valueCondition = createValueCondition("t_order", "order_id", "mod", null, null);
+        Optional<RouteContext> actual = router.route(valueCondition, Arrays.asList(1, 5, 2, "foo"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteUnits(), is(new LinkedHashSet<>(Arrays.asList(
+                new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1"))),
+                new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_2")))))));
+        assertThat(actual.get().getOriginalDataNodes().size(), is(1));
+        assertThat(actual.get().getOriginalDataNodes().iterator().next().size(), is(2));
+        assertThat(routeCache.findDataNodes(new ShardingRouteIntervalKey("t_order", "order_id", Integer.class), Range.<Comparable<?>>singleton(5)).orElse(Collections.emptyList()),
+                is(Collections.singleton(new DataNode("ds_1", "t_order_1"))));
+    }
+    
+    @Test
+    void assertRouteRange() {
+        ShardingRouteValueCondition valueCondition = createValueCondition("t_log", "id", "boundary", BoundType.CLOSED, BoundType.CLOSED);
+        ShardingRouteIntervalKey intervalKey = new ShardingRouteIntervalKey("t_log", "id", Integer.class);
+        Optional<RouteContext> actual = router.route(valueCondition, Arrays.asList(11, 15, "foo"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteUnits().size(), is(1));
+        assertThat(routeCache.findDataNodes(intervalKey, Range.<Comparable<?>>closed(12, 14)).orElse(Collections.emptyList()), is(Collections.singleton(new DataNode("ds_1", "t_log_1"))));
+        actual = router.route(valueCondition, Arrays.asList(5, 15, "foo"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteUnits().size(), is(2));
+        assertFalse(routeCache.findDataNodes(intervalKey, Range.<Comparable<?>>closed(5, 15)).isPresent());
+    }
+    
+    @Test
+    void assertRouteInvalidRange() {
+        ShardingRouteValueCondition valueCondition = createValueCondition("t_log", "id", "boundary", BoundType.CLOSED, BoundType.CLOSED);
+        assertFalse(router.route(valueCondition, Arrays.asList(15, 11, "foo")).isPresent());
+        assertFalse(router.route(valueCondition, Arrays.asList(11, 15L, "foo")).isPresent());
+        assertFalse(router.route(valueCondition, Collections.singletonList(11)).isPresent());
+    }
+    
+    private ShardingRouteValueCondition createValueCondition(final String logicTableName, final String columnName, final String algorithmName,
+                                                             final BoundType lowerBoundType, final BoundType upperBoundType) {
+        return new ShardingRouteValueCondition(logicTableName, shardingRule.getShardingTable(logicTableName), columnName, new NoneShardingStrategy(),
+                new StandardShardingStrategy(columnName, (StandardShardingAlgorithm<?>) shardingRule.getShardingAlgorithms().get(algorithmName)),
+                null == lowerBoundType ? Arrays.asList(0, 1, 2) : Arrays.asList(0, 1), lowerBoundType, upperBoundType);
+    }
+}
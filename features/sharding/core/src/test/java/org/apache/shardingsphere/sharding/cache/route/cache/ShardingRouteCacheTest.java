@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +40,15 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertPutAndFindDataNodes() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        ShardingRouteIntervalKey key = new ShardingRouteIntervalKey("t_order", "order_id", Integer.class);
+        assertFalse(cache.findDataNodes(key, Range.<Comparable<?>>singleton(1)).isPresent());
+        cache.putDataNodes(key, Range.<Comparable<?>>closed(1, 10), Collections.singleton(new DataNode("ds_0", "t_order_0")));
+        assertThat(cache.findDataNodes(new ShardingRouteIntervalKey("T_ORDER", "ORDER_ID", Integer.class), Range.<Comparable<?>>singleton(1)).orElse(Collections.emptyList()),
+                is(Collections.singleton(new DataNode("ds_0", "t_order_0"))));
+        assertFalse(cache.findDataNodes(new ShardingRouteIntervalKey("t_order", "order_id", Long.class), Range.<Comparable<?>>singleton(1L)).isPresent());
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ShardingRouteIntervalTreeTest {
+    
+    private final Collection<DataNode> dataNodes0 = Collections.singleton(new DataNode("ds_0", "t_order_0"));
+    
+    private final Collection<DataNode> dataNodes1 = Collections.singleton(new DataNode("ds_1", "t_order_1"));
+    
+    @Test
+    void assertFindEnclosedRange() {
+        ShardingRouteIntervalTree intervalTree = new ShardingRouteIntervalTree(16);
+        intervalTree.put(Range.<Comparable<?>>closedOpen(0, 10), dataNodes0);
+        assertThat(intervalTree.find(Range.<Comparable<?>>closed(2, 5)).orElse(Collections.emptyList()), is(dataNodes0));
+        assertThat(intervalTree.find(Range.<Comparable<?>>singleton(0)).orElse(Collections.emptyList()), is(dataNodes0));
+        assertFalse(intervalTree.find(Range.<Comparable<?>>closed(5, 10)).isPresent());
+        assertFalse(intervalTree.find(Range.<Comparable<?>>singleton(-1)).isPresent());
+    }
+    
+    @Test
+    void assertFindCoalescedRange() {
+        ShardingRouteIntervalTree intervalTree = new ShardingRouteIntervalTree(16);
+        intervalTree.put(Range.<Comparable<?>>closed(0, 5), dataNodes0);
+        intervalTree.put(Range.<Comparable<?>>closed(3, 9), dataNodes0);
+        assertThat(intervalTree.find(Range.<Comparable<?>>closed(1, 8)).orElse(Collections.emptyList()), is(dataNodes0));
+    }
+    
+    @Test
+    void assertFindRangeCoveredByMultipleRanges() {
+        ShardingRouteIntervalTree intervalTree = new ShardingRouteIntervalTree(16);
+        intervalTree.put(Range.<Comparable<?>>closedOpen(0, 10), dataNodes0);
+        intervalTree.put(Range.<Comparable<?>>closedOpen(10, 20), dataNodes1);
+        assertThat(intervalTree.find(Range.<Comparable<?>>closed(5, 15)).orElse(Collections.emptyList()),
+                is(new LinkedHashSet<>(Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_1", "t_order_1")))));
+        assertFalse(intervalTree.find(Range.<Comparable<?>>closed(5, 20)).isPresent());
+    }
+    
+    @Test
+    void assertFindRangeWithGap() {
+        ShardingRouteIntervalTree intervalTree = new ShardingRouteIntervalTree(16);
+        intervalTree.put(Range.<Comparable<?>>singleton(1), dataNodes0);
+        intervalTree.put(Range.<Comparable<?>>singleton(3), dataNodes1);
+        assertFalse(intervalTree.find(Range.<Comparable<?>>closed(1, 3)).isPresent());
+    }
+    
+    @Test
+    void assertPutMoreThanMaximumSize() {
+        ShardingRouteIntervalTree intervalTree = new ShardingRouteIntervalTree(2);
+        intervalTree.put(Range.<Comparable<?>>singleton(1), dataNodes0);
+        intervalTree.put(Range.<Comparable<?>>singleton(2), dataNodes0);
+        intervalTree.put(Range.<Comparable<?>>singleton(3), dataNodes1);
+        assertFalse(intervalTree.find(Range.<Comparable<?>>singleton(1)).isPresent());
+        assertThat(intervalTree.find(Range.<Comparable<?>>singleton(3)).orElse(Collections.emptyList()), is(dataNodes1));
+    }
+}
@@ -73,9 +73,15 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ShardingDQLResultMergerTest {
@@ -176,6 +182,62 @@ class ShardingDQLResultMergerTest {
         assertThat(resultMerger.merge(createQueryResults(), selectStatementContext, createDatabase(), mock(ConnectionContext.class)), instanceOf(OrderByStreamMergedResult.class));
     }
     
+    @Test
+    void assertBuildOrderByStreamMergedResultWithPreparedQueryResults() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) buildSelectStatement(new MySQLSelectStatement());
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(),
+                selectStatement, DefaultDatabase.LOGIC_NAME);
+        List<QueryResult> queryResults = createQueryResults();
+        when(queryResults.get(0).next()).thenReturn(true, false);
+        for (QueryResult each : queryResults) {
+            resultMerger.prepare(each, selectStatementContext, createDatabase());
+        }
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(OrderByStreamMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        for (QueryResult each : queryResults) {
+            verify(each).next();
+        }
+    }
+    
+    @Test
+    void assertBuildOrderByStreamMergedResultWithSinglePreparedQueryResult() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) buildSelectStatement(new MySQLSelectStatement());
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(),
+                selectStatement, DefaultDatabase.LOGIC_NAME);
+        QueryResult queryResult = createQueryResult();
+        when(queryResult.next()).thenReturn(true, false);
+        resultMerger.prepare(queryResult, selectStatementContext, createDatabase());
+        MergedResult actual = resultMerger.merge(Collections.singletonList(queryResult), selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(OrderByStreamMergedResult.class));
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        verify(queryResult, times(2)).next();
+    }
+    
+    @Test
+    void assertPrepareWithoutOrderByItems() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(),
+                buildSelectStatement(new MySQLSelectStatement()), DefaultDatabase.LOGIC_NAME);
+        QueryResult queryResult = createQueryResult();
+        resultMerger.prepare(queryResult, selectStatementContext, createDatabase());
+        verify(queryResult, never()).next();
+        assertThat(resultMerger.merge(Collections.singletonList(queryResult), selectStatementContext, createDatabase(), mock(ConnectionContext.class)),
+                instanceOf(IteratorStreamMergedResult.class));
+    }
+    
     @Test
     void assertBuildOrderByStreamMergedResultWithMySQLLimit() throws SQLException {
         final ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
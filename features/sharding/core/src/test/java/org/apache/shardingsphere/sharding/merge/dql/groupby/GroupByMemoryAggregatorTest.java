@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByMemoryAggregatorTest {
+    
+    @Test
+    void assertAggregateWithLongOverflow() throws SQLException {
+        List<MemoryQueryResultRow> actual = aggregate(AggregationType.SUM, new Object[]{1, Long.MAX_VALUE}, new Object[]{1, 1L});
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getCell(2), is(new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE))));
+    }
+    
+    @Test
+    void assertAggregateWithDecimalValues() throws SQLException {
+        List<MemoryQueryResultRow> actual = aggregate(AggregationType.SUM, new Object[]{1, 1}, new Object[]{1, new BigDecimal("1.5")}, new Object[]{1, 2});
+        assertThat(actual.get(0).getCell(2), is(new BigDecimal("4.5")));
+    }
+    
+    @Test
+    void assertAggregateWithNullValues() throws SQLException {
+        List<MemoryQueryResultRow> actual = aggregate(AggregationType.SUM, new Object[]{1, null}, new Object[]{2, 2}, new Object[]{2, null});
+        assertNull(actual.get(0).getCell(2));
+        assertThat(actual.get(1).getCell(2), is(new BigDecimal(2)));
+    }
+    
+    @Test
+    void assertAggregateWithMax() throws SQLException {
+        List<MemoryQueryResultRow> actual = aggregate(AggregationType.MAX, new Object[]{1, 3}, new Object[]{1, 5}, new Object[]{1, 4});
+        assertThat(actual.get(0).getCell(2), is(5));
+    }
+    
+    @Test
+    void assertAggregateWithManyGroups() throws SQLException {
+        Object[][] rows = new Object[5000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{i % 2500, 1};
+        }
+        List<MemoryQueryResultRow> actual = aggregate(AggregationType.COUNT, rows);
+        assertThat(actual.size(), is(2500));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i).getCell(1), is(i));
+            assertThat(actual.get(i).getCell(2), is(new BigDecimal(2)));
+        }
+    }
+    
+    @Test
+    void assertContains() throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(AggregationType.COUNT);
+        QueryResult queryResult = mockQueryResult(new Object[]{1, 1}, new Object[]{2, 1});
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(selectStatementContext);
+        assertTrue(queryResult.next());
+        GroupByValue groupByValue1 = new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems());
+        aggregator.aggregate(queryResult, groupByValue1);
+        assertTrue(queryResult.next());
+        GroupByValue groupByValue2 = new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems());
+        assertTrue(aggregator.contains(groupByValue1));
+        assertFalse(aggregator.contains(groupByValue2));
+        assertThat(aggregator.size(), is(1));
+    }
+    
+    private List<MemoryQueryResultRow> aggregate(final AggregationType aggregationType, final Object[]... rows) throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(aggregationType);
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(selectStatementContext);
+        QueryResult queryResult = mockQueryResult(rows);
+        while (queryResult.next()) {
+            aggregator.aggregate(queryResult, new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems()));
+        }
+        return aggregator.getRows();
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final AggregationType aggregationType) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        AggregationProjection aggregationProjection = new AggregationProjection(aggregationType, "(value)", null, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        aggregationProjection.setIndex(2);
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.singletonList(aggregationProjection));
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        groupByItem.setIndex(1);
+        Collection<OrderByItem> groupByItems = Collections.singletonList(groupByItem);
+        when(result.getGroupByContext().getItems()).thenReturn(groupByItems);
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(2);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[cursor.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+}
@@ -41,6 +41,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.Shorthan
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
@@ -58,12 +60,17 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -121,8 +128,55 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForPagination() throws SQLException {
+        MergedResult actual = createPaginatedMergedResult(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(4));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForPaginationWithoutPaginationDecoratorOfProtocolType() throws SQLException {
+        MergedResult actual = createPaginatedMergedResult(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), 1L);
+        for (int i = 4; i > 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForPaginationWithMaxRowCount() throws SQLException {
+        MergedResult actual = createPaginatedMergedResult(TypedSPILoader.getService(DatabaseType.class, "MySQL"), Long.MAX_VALUE);
+        for (int i = 4; i > 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private MergedResult createPaginatedMergedResult(final DatabaseType protocolType, final long rowCount) throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{10, 0, 1, 1, 10}, new Object[]{20, 0, 2, 2, 20});
+        QueryResult queryResult2 = createQueryResult(new Object[]{30, 0, 3, 3, 30}, new Object[]{40, 0, 4, 4, 40});
+        SelectStatementContext selectStatementContext = createSelectStatementContext(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 1), new NumberLiteralLimitValueSegment(0, 0, rowCount)));
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 1; i <= 5; i++) {
+            columnLabelIndexMap.put(queryResult1.getMetaData().getColumnLabel(i), i);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        return new GroupByMemoryMergedResult(Arrays.asList(queryResult1, queryResult2), selectStatementContext, mock(ShardingSphereSchema.class), protocolType);
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
+        return createSelectStatementContext((LimitSegment) null);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final LimitSegment limitSegment) {
         SelectStatement selectStatement = new MySQLSelectStatement();
+        ((MySQLSelectStatement) selectStatement).setLimit(limitSegment);
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
         projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
         projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
@@ -217,4 +271,12 @@ class GroupByMemoryMergedResultTest {
         MergedResult actual = merger.merge(Arrays.asList(queryResult, queryResult, queryResult), createSelectStatementContext(database), database, mock(ConnectionContext.class));
         assertFalse(actual.next());
     }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[cursor.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class GroupBySpillFileTest {
+    
+    @Test
+    void assertWriteAndReadTypedValues() {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] row = new Object[]{null, "foo", 1, 2L, (short) 3, (byte) 4, true, 1.5F, 2.5D, new BigDecimal("12.340"), BigInteger.TEN, new byte[]{1, 2},
+                new java.sql.Date(2000L), new java.sql.Time(3000L), timestamp, LocalDateTime.of(2023, 1, 2, 3, 4, 5, 6)};
+        try (GroupBySpillFile spillFile = new GroupBySpillFile()) {
+            spillFile.write(row);
+            assertThat(spillFile.read(), is(row));
+            assertNull(spillFile.read());
+        }
+    }
+    
+    @Test
+    void assertWriteAndReadSerializedValues() {
+        Object[] row = new Object[]{new UUID(1L, 2L), new int[]{1, 2}, new Object[]{"foo", 1}, OffsetDateTime.of(2023, 1, 2, 3, 4, 5, 6, ZoneOffset.ofHours(8))};
+        try (GroupBySpillFile spillFile = new GroupBySpillFile()) {
+            spillFile.write(row);
+            Object[] actual = spillFile.read();
+            assertThat(actual, is(row));
+            for (int i = 0; i < row.length; i++) {
+                assertThat(actual[i].getClass().getName(), is(row[i].getClass().getName()));
+            }
+        }
+    }
+    
+    @Test
+    void assertWriteNotSerializableValue() {
+        try (GroupBySpillFile spillFile = new GroupBySpillFile()) {
+            assertThrows(GroupByMergeSpillException.class, () -> spillFile.write(new Object[]{mock(Blob.class)}));
+        }
+    }
+    
+    @Test
+    void assertReadAfterClose() {
+        GroupBySpillFile spillFile = new GroupBySpillFile();
+        spillFile.write(new Object[]{1});
+        spillFile.close();
+        assertNull(spillFile.read());
+    }
+}
@@ -47,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -202,6 +203,28 @@ class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForIntegralValuesWithManyResultSets() throws SQLException {
+        int resultSetCount = 17;
+        List<QueryResult> queryResults = new ArrayList<>(resultSetCount);
+        for (int i = 0; i < resultSetCount; i++) {
+            QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+            when(queryResult.getMetaData().getColumnName(1)).thenReturn("col1");
+            when(queryResult.getMetaData().getColumnName(2)).thenReturn("col2");
+            when(queryResult.next()).thenReturn(true, true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn((long) i, (long) i, (long) i + resultSetCount, (long) i + resultSetCount);
+            when(queryResult.getValue(2, Object.class)).thenReturn(0, 0);
+            queryResults.add(queryResult);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (long i = 0; i < resultSetCount * 2; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
     private ShardingSphereDatabase createDatabase() {
         ShardingSphereColumn column1 = new ShardingSphereColumn("col1", 0, false, false, true, true, false, false);
         ShardingSphereColumn column2 = new ShardingSphereColumn("col2", 0, false, false, false, true, false, false);
@@ -48,6 +48,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.plugins.MemberAccessor;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -57,6 +58,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class OrderByValueTest {
@@ -223,8 +226,33 @@ class OrderByValueTest {
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
+    @Test
+    void assertCompareToForIntegralColumns() throws SQLException {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(createOrderBySegment());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(
+                createShardingSphereMetaData(), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        OrderByValue orderByValue1 = new OrderByValue(createIntegralQueryResult(3L), Collections.singletonList(
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST))), selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createIntegralQueryResult(10L), Collections.singletonList(
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST))), selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
+        verify(orderByValue1.getQueryResult(), never()).getValue(1, Object.class);
+    }
+    
+    private QueryResult createIntegralQueryResult(final long value) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.next()).thenReturn(true, false);
+        when(result.getLong(1)).thenReturn(value);
+        return result;
+    }
+    
     private QueryResult createQueryResult(final String... values) throws SQLException {
-        QueryResult result = mock(QueryResult.class);
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.next()).thenReturn(true, false);
         for (int i = 0; i < values.length; i++) {
             when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
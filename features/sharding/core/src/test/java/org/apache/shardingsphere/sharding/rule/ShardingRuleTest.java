@@ -21,6 +21,7 @@ import org.apache.groovy.util.Maps;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.keygen.snowflake.SnowflakeKeyGenerateAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.keygen.uuid.UUIDKeyGenerateAlgorithm;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
@@ -85,7 +86,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class ShardingRuleTest {
     
@@ -189,6 +192,15 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findShardingTable(null).isPresent());
     }
     
+    @Test
+    void assertCloseKeyGenerators() throws Exception {
+        ShardingRule actual = createMaximumShardingRule();
+        KeyGenerateAlgorithm closeableKeyGenerator = mock(KeyGenerateAlgorithm.class, withSettings().extraInterfaces(AutoCloseable.class));
+        actual.getKeyGenerators().put("closeable", closeableKeyGenerator);
+        actual.close();
+        verify((AutoCloseable) closeableKeyGenerator).close();
+    }
+    
     @Test
     void assertFindTableRuleByActualTable() {
         assertTrue(createMaximumShardingRule().findShardingTableByActualTable("table_0").isPresent());
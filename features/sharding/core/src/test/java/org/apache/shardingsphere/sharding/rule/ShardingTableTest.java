@@ -39,6 +39,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -106,6 +107,24 @@ class ShardingTableTest {
         assertTrue(actual.getActualDataNodes().contains(new DataNode("ds0", "logic_table_3")));
     }
     
+    @Test
+    void assertFindActualTableDataSourceNames() {
+        ShardingAutoTableRuleConfiguration shardingAutoTableRuleConfig = new ShardingAutoTableRuleConfiguration("LOGIC_TABLE", "ds0,ds1");
+        shardingAutoTableRuleConfig.setShardingStrategy(new StandardShardingStrategyConfiguration("col_1", "MOD"));
+        ModShardingAlgorithm shardingAlgorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "4")));
+        Optional<Map<String, String>> actual = new ShardingTable(shardingAutoTableRuleConfig, Arrays.asList("ds0", "ds1"), shardingAlgorithm, null).findActualTableDataSourceNames();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(4));
+        assertThat(actual.get().get("LOGIC_TABLE_2"), is("ds0"));
+        assertThat(actual.get().get("LOGIC_TABLE_3"), is("ds1"));
+    }
+    
+    @Test
+    void assertNotFindActualTableDataSourceNames() {
+        ShardingTable actual = new ShardingTable(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
+        assertFalse(actual.findActualTableDataSourceNames().isPresent());
+    }
+    
     @Test
     void assertGetActualDataSourceNames() {
         ShardingTable actual = new ShardingTable(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlan;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
+import org.apache.shardingsphere.sharding.cache.plan.ShardingSQLPlanCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingSQLPlanCacheRuleAttributeTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ? AND status = ?";
+    
+    private final ShardingCache shardingCache = mock(ShardingCache.class);
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+    
+    @BeforeEach
+    void setUp() {
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(any(), any())).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.singletonList(0)));
+        when(shardingCache.getPlanCache()).thenReturn(new ShardingSQLPlanCache(new ShardingCacheOptionsConfiguration(false, 16, 16)));
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+    }
+    
+    @Test
+    void assertFindAfterPut() {
+        ShardingSQLPlanCacheRuleAttribute ruleAttribute = new ShardingSQLPlanCacheRuleAttribute(shardingCache);
+        RouteContext routeContext = createRouteContext(new RouteMapper("t_order", "t_order_1"));
+        ruleAttribute.put(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database, createSQLPlan(routeContext, Arrays.asList(1, "OK")));
+        Optional<SQLPlan> actual = ruleAttribute.find(createQueryContext(Arrays.asList(1, "INIT"), new HintValueContext()), database);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteContext(), not(routeContext));
+        assertThat(actual.get().getRouteContext().getRouteUnits(), is(routeContext.getRouteUnits()));
+        SQLRewriteUnit actualSQLRewriteUnit = ((RouteSQLRewriteResult) actual.get().getSqlRewriteResult()).getSqlRewriteUnits().get(routeContext.getRouteUnits().iterator().next());
+        assertThat(actualSQLRewriteUnit.getSql(), is("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ?"));
+        assertThat(actualSQLRewriteUnit.getParameters(), is(Arrays.asList(1, "INIT")));
+        assertFalse(ruleAttribute.find(createQueryContext(Arrays.asList(2, "INIT"), new HintValueContext()), database).isPresent());
+    }
+    
+    @Test
+    void assertPutWithMultipleTables() {
+        ShardingSQLPlanCacheRuleAttribute ruleAttribute = new ShardingSQLPlanCacheRuleAttribute(shardingCache);
+        RouteContext routeContext = createRouteContext(new RouteMapper("t_order", "t_order_0"), new RouteMapper("t_order", "t_order_1"));
+        ruleAttribute.put(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database, createSQLPlan(routeContext, Arrays.asList(1, "OK")));
+        assertFalse(ruleAttribute.find(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database).isPresent());
+    }
+    
+    @Test
+    void assertPutWithRewrittenParameters() {
+        ShardingSQLPlanCacheRuleAttribute ruleAttribute = new ShardingSQLPlanCacheRuleAttribute(shardingCache);
+        RouteContext routeContext = createRouteContext(new RouteMapper("t_order", "t_order_1"));
+        ruleAttribute.put(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database, createSQLPlan(routeContext, Arrays.asList(1, "OK", 10)));
+        assertFalse(ruleAttribute.find(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database).isPresent());
+    }
+    
+    @Test
+    void assertPutAndFindWithHint() {
+        ShardingSQLPlanCacheRuleAttribute ruleAttribute = new ShardingSQLPlanCacheRuleAttribute(shardingCache);
+        HintValueContext hintValueContext = new HintValueContext();
+        hintValueContext.setWriteRouteOnly(true);
+        RouteContext routeContext = createRouteContext(new RouteMapper("t_order", "t_order_1"));
+        ruleAttribute.put(createQueryContext(Arrays.asList(1, "OK"), hintValueContext), database, createSQLPlan(routeContext, Arrays.asList(1, "OK")));
+        assertFalse(ruleAttribute.find(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database).isPresent());
+        ruleAttribute.put(createQueryContext(Arrays.asList(1, "OK"), new HintValueContext()), database, createSQLPlan(routeContext, Arrays.asList(1, "OK")));
+        assertFalse(ruleAttribute.find(createQueryContext(Arrays.asList(1, "OK"), hintValueContext), database).isPresent());
+    }
+    
+    private QueryContext createQueryContext(final List<Object> params, final HintValueContext hintValueContext) {
+        return new QueryContext(mock(SQLStatementContext.class), SQL, params, hintValueContext);
+    }
+    
+    private RouteContext createRouteContext(final RouteMapper... tableMappers) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(tableMappers)));
+        result.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_order_1")));
+        return result;
+    }
+    
+    private SQLPlan createSQLPlan(final RouteContext routeContext, final List<Object> rewrittenParams) {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(1, 1F);
+        sqlRewriteUnits.put(routeContext.getRouteUnits().iterator().next(), new SQLRewriteUnit("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ?", rewrittenParams));
+        return new SQLPlan(routeContext, new RouteSQLRewriteResult(sqlRewriteUnits));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * Key segment buffer.
+ * 
+ * <p>Keys are handed out from the current segment in memory, the next segment is prefetched asynchronously when current segment is running low.</p>
+ */
+@RequiredArgsConstructor
+final class KeySegmentBuffer {
+    
+    private final LongSupplier segmentAllocator;
+    
+    private final long segmentSize;
+    
+    private final long prefetchThreshold;
+    
+    private final Executor prefetchExecutor;
+    
+    private long nextKey;
+    
+    private long endKey;
+    
+    private CompletableFuture<Long> nextSegment;
+    
+    /**
+     * Take keys.
+     *
+     * @param keyCount key count
+     * @return taken keys
+     */
+    synchronized long[] take(final int keyCount) {
+        long[] result = new long[keyCount];
+        int index = 0;
+        while (index < keyCount) {
+            if (nextKey >= endKey) {
+                nextKey = allocateSegment();
+                endKey = nextKey + segmentSize;
+            }
+            while (index < keyCount && nextKey < endKey) {
+                result[index++] = nextKey++;
+            }
+            prefetchIfNecessary();
+        }
+        return result;
+    }
+    
+    private long allocateSegment() {
+        if (null == nextSegment) {
+            return segmentAllocator.getAsLong();
+        }
+        CompletableFuture<Long> prefetchedSegment = nextSegment;
+        nextSegment = null;
+        try {
+            return prefetchedSegment.join();
+        } catch (final CompletionException ignored) {
+            return segmentAllocator.getAsLong();
+        }
+    }
+    
+    private void prefetchIfNecessary() {
+        if (null == nextSegment && endKey - nextKey <= prefetchThreshold) {
+            nextSegment = CompletableFuture.supplyAsync(segmentAllocator::getAsLong, prefetchExecutor);
+        }
+    }
+}
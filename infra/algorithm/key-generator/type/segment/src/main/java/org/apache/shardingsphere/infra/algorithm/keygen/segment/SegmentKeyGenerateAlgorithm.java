@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>Ranges of monotonically increasing keys are leased from mode repository per database, table and column, keys inside range are handed out from memory.</p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware, AutoCloseable {
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String PREFETCH_THRESHOLD_PERCENT_KEY = "prefetch-threshold-percent";
+    
+    private static final long DEFAULT_SEGMENT_SIZE = 10000L;
+    
+    private static final int DEFAULT_PREFETCH_THRESHOLD_PERCENT = 20;
+    
+    private final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-key-segment-prefetch-%d").build());
+    
+    private final AtomicReference<InstanceContext> instanceContext = new AtomicReference<>();
+    
+    private final Map<String, KeySegmentBuffer> buffers = new ConcurrentHashMap<>();
+    
+    private long segmentSize;
+    
+    private long prefetchThreshold;
+    
+    @Override
+    public void init(final Properties props) {
+        segmentSize = getSegmentSize(props);
+        prefetchThreshold = segmentSize * getPrefetchThresholdPercent(props) / 100L;
+    }
+    
+    private long getSegmentSize(final Properties props) {
+        long result = Long.parseLong(props.getOrDefault(SEGMENT_SIZE_KEY, DEFAULT_SEGMENT_SIZE).toString());
+        ShardingSpherePreconditions.checkState(result > 0L, () -> new AlgorithmInitializationException(this, "Segment size must be positive."));
+        return result;
+    }
+    
+    private int getPrefetchThresholdPercent(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(PREFETCH_THRESHOLD_PERCENT_KEY, DEFAULT_PREFETCH_THRESHOLD_PERCENT).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result < 100, () -> new AlgorithmInitializationException(this, "Prefetch threshold percent must be in range [0, 100)."));
+        return result;
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        this.instanceContext.set(instanceContext);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        String keyName = getKeyName(context);
+        long[] keys = buffers.computeIfAbsent(keyName, unused -> new KeySegmentBuffer(() -> allocateSegment(keyName), segmentSize, prefetchThreshold, prefetchExecutor)).take(keyGenerateCount);
+        Collection<Long> result = new ArrayList<>(keys.length);
+        for (long each : keys) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    private String getKeyName(final AlgorithmSQLContext context) {
+        ShardingSpherePreconditions.checkState(null != context.getDatabaseName(), () -> new AlgorithmExecuteException(this, "Database name is required to allocate key segment of `%s.%s`.",
+                context.getTableName(), context.getColumnName()));
+        return String.join(".", context.getDatabaseName(), context.getTableName(), context.getColumnName()).toLowerCase();
+    }
+    
+    private long allocateSegment(final String keyName) {
+        InstanceContext instanceContext = this.instanceContext.get();
+        ShardingSpherePreconditions.checkState(null != instanceContext, () -> new AlgorithmExecuteException(this, "Instance context is required to allocate key segment of `%s`.", keyName));
+        return instanceContext.getModeContextManager().allocateKeySegment(keyName, segmentSize);
+    }
+    
+    @Override
+    public void close() {
+        prefetchExecutor.shutdownNow();
+        buffers.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
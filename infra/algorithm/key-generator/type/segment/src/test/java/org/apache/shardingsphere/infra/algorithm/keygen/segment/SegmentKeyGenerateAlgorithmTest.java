@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    private final Map<String, AtomicLong> lastAllocatedKeys = new ConcurrentHashMap<>();
+    
+    @Test
+    void assertGenerateKeysAcrossSegments() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm();
+        AlgorithmSQLContext context = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id");
+        List<Long> actual = new ArrayList<>(25);
+        for (int i = 0; i < 5; i++) {
+            algorithm.generateKeys(context, 5).forEach(each -> actual.add((Long) each));
+        }
+        assertThat(actual, is(LongStream.rangeClosed(1L, 25L).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    void assertGenerateKeysForDifferentTables() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm();
+        assertThat(algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id"), 1).iterator().next(), is(1L));
+        assertThat(algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "T_ORDER", "order_id"), 1).iterator().next(), is(2L));
+        assertThat(algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "t_order_item", "order_item_id"), 1).iterator().next(), is(1L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        KeyGenerateAlgorithm algorithm = createAlgorithm();
+        AlgorithmSQLContext context = new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id");
+        int taskNumber = Runtime.getRuntime().availableProcessors() * 8;
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(context, 7)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * 7, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 7));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT");
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id"), 1));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutDatabaseName() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm();
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(new AlgorithmSQLContext(null, "foo_schema", "t_order", "order_id"), 1));
+    }
+    
+    @Test
+    void assertGenerateKeysAfterClose() throws Exception {
+        KeyGenerateAlgorithm algorithm = createAlgorithm();
+        ((AutoCloseable) algorithm).close();
+        assertThrows(RejectedExecutionException.class, () -> algorithm.generateKeys(new AlgorithmSQLContext("foo_db", "foo_schema", "t_order", "order_id"), 9));
+    }
+    
+    @Test
+    void assertInitWithInvalidSegmentSize() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-size", "0"))));
+    }
+    
+    @Test
+    void assertInitWithInvalidPrefetchThresholdPercent() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("prefetch-threshold-percent", "100"))));
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm() {
+        InstanceContext instanceContext = mock(InstanceContext.class, RETURNS_DEEP_STUBS);
+        when(instanceContext.getModeContextManager().allocateKeySegment(anyString(), anyLong())).thenAnswer(invocation -> allocate(invocation.getArgument(0), invocation.getArgument(1)));
+        KeyGenerateAlgorithm result = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-size", "10")));
+        ((InstanceContextAware) result).setInstanceContext(instanceContext);
+        return result;
+    }
+    
+    private long allocate(final String keyName, final long segmentSize) {
+        return lastAllocatedKeys.computeIfAbsent(keyName, unused -> new AtomicLong()).getAndAdd(segmentSize) + 1L;
+    }
+}
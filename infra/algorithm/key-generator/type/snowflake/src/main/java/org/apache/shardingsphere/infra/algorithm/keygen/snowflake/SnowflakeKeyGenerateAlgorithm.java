@@ -30,8 +30,8 @@ import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +47,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last generated millis and sequence are packed into one long and updated by CAS, so keys of a multi-row insert are reserved as one contiguous block.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -79,9 +81,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong lastState = new AtomicLong();
     
     private Properties props;
     
@@ -122,55 +122,57 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        long[] keys = generateKeyArray(keyGenerateCount);
+        Collection<Long> result = new ArrayList<>(keys.length);
+        for (long each : keys) {
+            result.add(each);
         }
         return result;
     }
     
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    private long[] generateKeyArray(final int keyGenerateCount) {
+        long[] result = new long[keyGenerateCount];
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int index = 0;
+        while (index < keyGenerateCount) {
+            long state = lastState.get();
+            long lastMillis = state >>> SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            if (currentMillis < lastMillis) {
+                waitTolerateTimeDifference(lastMillis, currentMillis);
+                continue;
+            }
+            long firstSequence;
+            if (currentMillis == lastMillis) {
+                firstSequence = (state & SEQUENCE_MASK) + 1L;
+                if (firstSequence > SEQUENCE_MASK) {
+                    continue;
+                }
+            } else {
+                firstSequence = vibrateSequenceOffset();
+            }
+            long lastSequence = Math.min(SEQUENCE_MASK, firstSequence + keyGenerateCount - index - 1L);
+            if (!lastState.compareAndSet(state, (currentMillis << SEQUENCE_BITS) | lastSequence)) {
+                continue;
+            }
+            long timestampBits = (currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS;
+            for (long each = firstSequence; each <= lastSequence; each++) {
+                result[index++] = timestampBits | workerIdBits | each;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
-            result = timeService.getCurrentMillis();
-        }
-        return result;
-    }
-    
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    private int vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(each -> each >= maxVibrationOffset ? 0 : each + 1);
     }
     
     private int getWorkerId() {
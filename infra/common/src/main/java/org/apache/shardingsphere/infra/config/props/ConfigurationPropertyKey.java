@@ -54,16 +54,48 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The thread mode of worker group to execute SQL, PLATFORM or VIRTUAL.
+     */
+    KERNEL_EXECUTOR_MODE("kernel-executor-mode", ExecutorThreadMode.PLATFORM.name(), ExecutorThreadMode.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether adapt connection mode and connections size for each query by observed latencies, result sizes and pool headroom of data sources.
+     */
+    CONNECTION_MODE_ADAPTIVE_ENABLED("connection-mode-adaptive-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max groups kept in memory for group by merge, exceeded groups are spilled to disk.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_GROUPS_IN_MEMORY("group-by-merge-max-groups-in-memory", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max rows of each multiple rows insert statement coalesced from batched single row insert statements routed to same data node.
+     * Less than or equal to 1 means no coalescing.
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch-insert-coalesce-max-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether persist schema meta data in compact JSON instead of YAML, meta data persisted in both formats can be loaded.
+     */
+    SCHEMA_META_DATA_JSON_PERSIST_ENABLED("schema-meta-data-json-persist-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Local file of schema meta data snapshot which is used to reduce meta data loading from registry when restart, empty means no snapshot.
+     */
+    SCHEMA_META_DATA_SNAPSHOT_FILE("schema-meta-data-snapshot-file", "", String.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.config.props;
+
+/**
+ * Executor thread mode.
+ * 
+ * <p>Serial execution, which is used by distributed transactions requiring thread affinity, always runs on the caller thread and is not affected by thread mode.</p>
+ */
+public enum ExecutorThreadMode {
+    
+    /**
+     * Platform threads, backed by fixed or cached thread pool.
+     */
+    PLATFORM,
+    
+    /**
+     * Virtual threads, one per task. Falls back to {@link #PLATFORM} if current JVM does not support virtual thread.
+     */
+    VIRTUAL
+}
@@ -163,4 +163,13 @@ public interface ModeContextManager {
      * @param props pros
      */
     void alterProperties(Properties props);
+    
+    /**
+     * Allocate key segment.
+     *
+     * @param keyName key name
+     * @param segmentSize segment size
+     * @return first key of allocated segment
+     */
+    long allocateKeySegment(String keyName, long segmentSize);
 }
@@ -30,6 +30,8 @@ public enum GlobalLockNames {
     
     PREPARE("prepare_%s"),
     
+    KEY_SEGMENT("key_segment_%s"),
+    
     GLOBAL_LOCK("global_clock");
     
     private final String lockName;
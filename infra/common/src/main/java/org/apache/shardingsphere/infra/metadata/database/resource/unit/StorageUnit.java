@@ -50,6 +50,8 @@ public final class StorageUnit {
     
     private final ConnectionProperties connectionProperties;
     
+    private final StorageUnitExecuteStatistics executeStatistics = new StorageUnitExecuteStatistics();
+    
     public StorageUnit(final StorageNode storageNode, final DataSourcePoolProperties dataSourcePoolProperties, final DataSource dataSource) {
         this.storageNode = storageNode;
         Map<String, Object> standardProps = dataSourcePoolProperties.getConnectionPropertySynonyms().getStandardProperties();
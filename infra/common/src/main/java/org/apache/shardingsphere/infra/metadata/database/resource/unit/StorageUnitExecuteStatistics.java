@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.resource.unit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Execute statistics of storage unit, which records active executions, latency histogram and result size histogram.
+ * 
+ * <p>Histograms only keep samples of the current and the previous window, so percentiles follow recent executions instead of the whole process lifetime.</p>
+ */
+public final class StorageUnitExecuteStatistics {
+    
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1L);
+    
+    private final AtomicInteger activeExecutions = new AtomicInteger();
+    
+    private final Histogram latencyMicros;
+    
+    private final Histogram resultRows;
+    
+    public StorageUnitExecuteStatistics() {
+        this(System::nanoTime);
+    }
+    
+    StorageUnitExecuteStatistics(final LongSupplier nanoTimeSupplier) {
+        latencyMicros = new Histogram(nanoTimeSupplier);
+        resultRows = new Histogram(nanoTimeSupplier);
+    }
+    
+    /**
+     * Start execution.
+     */
+    public void startExecution() {
+        activeExecutions.incrementAndGet();
+    }
+    
+    /**
+     * Finish execution.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finishExecution(final long elapsedNanos) {
+        activeExecutions.decrementAndGet();
+        latencyMicros.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+    
+    /**
+     * Record result rows.
+     *
+     * @param rows rows of result
+     */
+    public void recordResultRows(final long rows) {
+        resultRows.record(rows);
+    }
+    
+    /**
+     * Get active executions.
+     *
+     * @return active executions
+     */
+    public int getActiveExecutions() {
+        return activeExecutions.get();
+    }
+    
+    /**
+     * Get latency samples count.
+     *
+     * @return latency samples count
+     */
+    public long getLatencySamplesCount() {
+        return latencyMicros.getCount();
+    }
+    
+    /**
+     * Get latency percentile in microseconds.
+     *
+     * @param percentile percentile between 0 and 1
+     * @return upper bound of latency percentile in microseconds
+     */
+    public long getLatencyPercentileMicros(final double percentile) {
+        return latencyMicros.getPercentile(percentile);
+    }
+    
+    /**
+     * Get result rows samples count.
+     *
+     * @return result rows samples count
+     */
+    public long getResultRowsSamplesCount() {
+        return resultRows.getCount();
+    }
+    
+    /**
+     * Get result rows percentile.
+     *
+     * @param percentile percentile between 0 and 1
+     * @return upper bound of result rows percentile
+     */
+    public long getResultRowsPercentile(final double percentile) {
+        return resultRows.getPercentile(percentile);
+    }
+    
+    private static final class Histogram {
+        
+        private final LongSupplier nanoTimeSupplier;
+        
+        private final AtomicReference<HistogramWindow> currentWindow;
+        
+        private volatile HistogramWindow previousWindow;
+        
+        Histogram(final LongSupplier nanoTimeSupplier) {
+            this.nanoTimeSupplier = nanoTimeSupplier;
+            long nanoTime = nanoTimeSupplier.getAsLong();
+            currentWindow = new AtomicReference<>(new HistogramWindow(nanoTime));
+            previousWindow = new HistogramWindow(nanoTime);
+        }
+        
+        void record(final long value) {
+            getCurrentWindow().record(value);
+        }
+        
+        long getCount() {
+            return getCurrentWindow().count.sum() + previousWindow.count.sum();
+        }
+        
+        long getPercentile(final double percentile) {
+            HistogramWindow current = getCurrentWindow();
+            HistogramWindow previous = previousWindow;
+            long total = current.count.sum() + previous.count.sum();
+            if (0L == total) {
+                return 0L;
+            }
+            long threshold = (long) Math.ceil(total * percentile);
+            long accumulated = 0L;
+            for (int i = 0; i < Long.SIZE; i++) {
+                accumulated += current.buckets[i].sum() + previous.buckets[i].sum();
+                if (accumulated >= threshold) {
+                    return 0 == i ? 0L : (1L << i) - 1L;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+        
+        private HistogramWindow getCurrentWindow() {
+            long nanoTime = nanoTimeSupplier.getAsLong();
+            HistogramWindow result = currentWindow.get();
+            long elapsedNanos = nanoTime - result.startNanoTime;
+            if (elapsedNanos < WINDOW_NANOS) {
+                return result;
+            }
+            HistogramWindow nextWindow = new HistogramWindow(nanoTime);
+            if (!currentWindow.compareAndSet(result, nextWindow)) {
+                return currentWindow.get();
+            }
+            previousWindow = elapsedNanos < WINDOW_NANOS * 2L ? result : new HistogramWindow(nanoTime);
+            return nextWindow;
+        }
+    }
+    
+    private static final class HistogramWindow {
+        
+        private final long startNanoTime;
+        
+        private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+        
+        private final LongAdder count = new LongAdder();
+        
+        HistogramWindow(final long startNanoTime) {
+            this.startNanoTime = startNanoTime;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+        
+        void record(final long value) {
+            buckets[Math.min(Long.SIZE - Long.numberOfLeadingZeros(Math.max(value, 0L)), buckets.length - 1)].increment();
+            count.increment();
+        }
+    }
+}
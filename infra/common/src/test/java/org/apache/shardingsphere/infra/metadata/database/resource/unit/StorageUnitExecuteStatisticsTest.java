@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.resource.unit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StorageUnitExecuteStatisticsTest {
+    
+    @Test
+    void assertActiveExecutions() {
+        StorageUnitExecuteStatistics actual = new StorageUnitExecuteStatistics();
+        actual.startExecution();
+        actual.startExecution();
+        assertThat(actual.getActiveExecutions(), is(2));
+        actual.finishExecution(TimeUnit.MILLISECONDS.toNanos(1L));
+        assertThat(actual.getActiveExecutions(), is(1));
+        assertThat(actual.getLatencySamplesCount(), is(1L));
+    }
+    
+    @Test
+    void assertGetLatencyPercentileMicros() {
+        StorageUnitExecuteStatistics actual = new StorageUnitExecuteStatistics();
+        assertThat(actual.getLatencyPercentileMicros(0.9D), is(0L));
+        for (int i = 0; i < 9; i++) {
+            actual.startExecution();
+            actual.finishExecution(TimeUnit.MICROSECONDS.toNanos(100L));
+        }
+        actual.startExecution();
+        actual.finishExecution(TimeUnit.MILLISECONDS.toNanos(50L));
+        assertThat(actual.getLatencyPercentileMicros(0.9D), is(127L));
+        assertThat(actual.getLatencyPercentileMicros(1D), is(65535L));
+    }
+    
+    @Test
+    void assertGetResultRowsPercentile() {
+        StorageUnitExecuteStatistics actual = new StorageUnitExecuteStatistics();
+        actual.recordResultRows(0L);
+        actual.recordResultRows(20000L);
+        assertThat(actual.getResultRowsSamplesCount(), is(2L));
+        assertThat(actual.getResultRowsPercentile(0.5D), is(0L));
+        assertThat(actual.getResultRowsPercentile(0.9D), is(32767L));
+    }
+    
+    @Test
+    void assertExpireSamplesOfPreviousWindows() {
+        AtomicLong nanoTime = new AtomicLong();
+        StorageUnitExecuteStatistics actual = new StorageUnitExecuteStatistics(nanoTime::get);
+        actual.recordResultRows(20000L);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(90L));
+        actual.recordResultRows(0L);
+        assertThat(actual.getResultRowsSamplesCount(), is(2L));
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60L));
+        assertThat(actual.getResultRowsSamplesCount(), is(1L));
+        assertThat(actual.getResultRowsPercentile(1D), is(0L));
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(5L));
+        assertThat(actual.getResultRowsSamplesCount(), is(0L));
+    }
+}
@@ -26,11 +26,16 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlanCacheRuleAttribute;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -48,13 +53,28 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
-        ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+        Optional<SQLPlanCacheRuleAttribute> sqlPlanCache = findSQLPlanCache(database);
+        Optional<SQLPlan> cachedSQLPlan = sqlPlanCache.flatMap(optional -> optional.find(queryContext, database));
+        SQLPlan sqlPlan = cachedSQLPlan.orElseGet(() -> createSQLPlan(queryContext, database, globalRuleMetaData, props, connectionContext));
+        if (!cachedSQLPlan.isPresent()) {
+            sqlPlanCache.ifPresent(optional -> optional.put(queryContext, database, sqlPlan));
+        }
+        ExecutionContext result = createExecutionContext(queryContext, database, sqlPlan.getRouteContext(), sqlPlan.getSqlRewriteResult());
         logSQL(queryContext, props, result);
         return result;
     }
     
+    private Optional<SQLPlanCacheRuleAttribute> findSQLPlanCache(final ShardingSphereDatabase database) {
+        Collection<SQLPlanCacheRuleAttribute> ruleAttributes = database.getRuleMetaData().getAttributes(SQLPlanCacheRuleAttribute.class);
+        return ruleAttributes.isEmpty() ? Optional.empty() : Optional.of(ruleAttributes.iterator().next());
+    }
+    
+    private SQLPlan createSQLPlan(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
+                                  final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
+        return new SQLPlan(routeContext, rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext));
+    }
+    
     private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database,
                                final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, globalRuleMetaData, database);
@@ -28,7 +28,15 @@ import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLPlanCacheRuleAttribute;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
@@ -41,12 +49,16 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class KernelProcessorTest {
@@ -66,10 +78,35 @@ class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @Test
+    void assertGenerateExecutionContextWithCachedSQLPlan() {
+        SQLStatementContext sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1), new HintValueContext());
+        RouteContext routeContext = new RouteContext();
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("foo_db", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        routeContext.getRouteUnits().add(routeUnit);
+        SQLPlanCacheRuleAttribute sqlPlanCacheRuleAttribute = mock(SQLPlanCacheRuleAttribute.class);
+        SQLPlan sqlPlan = new SQLPlan(routeContext, new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit("SELECT * FROM tbl_0 WHERE id = ?", Collections.singletonList(1)))));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(sqlPlanCacheRuleAttribute));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(rule)));
+        when(sqlPlanCacheRuleAttribute.find(queryContext, database)).thenReturn(Optional.of(sqlPlan));
+        ExecutionContext actual = new KernelProcessor().generateExecutionContext(queryContext, database, new RuleMetaData(mockShardingSphereRule()),
+                new ConfigurationProperties(new Properties()), mock(ConnectionContext.class));
+        assertThat(actual.getRouteContext(), is(routeContext));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertThat(actual.getExecutionUnits().iterator().next().getDataSourceName(), is("ds_0"));
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM tbl_0 WHERE id = ?"));
+        verify(sqlPlanCacheRuleAttribute, never()).put(queryContext, database, sqlPlan);
+    }
+    
     private Collection<ShardingSphereRule> mockShardingSphereRule() {
         Collection<ShardingSphereRule> result = new LinkedList<>();
         SQLTranslatorRule sqlTranslatorRule = mock(SQLTranslatorRule.class);
         when(sqlTranslatorRule.translate(any(), any(), any(), any(), any(), any())).thenReturn(new SQLTranslatorContext("", Collections.emptyList()));
+        when(sqlTranslatorRule.getAttributes()).thenReturn(new RuleAttributes());
         result.add(sqlTranslatorRule);
         return result;
     }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meta data load progress.
+ */
+@Slf4j
+final class MetaDataLoadProgress {
+    
+    private static final int INFO_LOG_TABLE_COUNT_THRESHOLD = 1000;
+    
+    private final int totalBatchCount;
+    
+    private final int totalTableCount;
+    
+    private final long startTimeMillis = System.currentTimeMillis();
+    
+    private final AtomicInteger finishedBatchCount = new AtomicInteger();
+    
+    private final AtomicInteger finishedTableCount = new AtomicInteger();
+    
+    MetaDataLoadProgress(final Collection<MetaDataLoaderMaterial> batches) {
+        totalBatchCount = batches.size();
+        totalTableCount = batches.stream().mapToInt(each -> each.getActualTableNames().size()).sum();
+    }
+    
+    /**
+     * Finish batch.
+     *
+     * @param batch finished batch
+     */
+    void finishBatch(final MetaDataLoaderMaterial batch) {
+        int finishedBatches = finishedBatchCount.incrementAndGet();
+        int finishedTables = finishedTableCount.addAndGet(batch.getActualTableNames().size());
+        log.debug("Loaded meta data batches {}/{}, actual tables {}/{}, elapsed {} ms.", finishedBatches, totalBatchCount, finishedTables, totalTableCount, getElapsedMillis());
+    }
+    
+    /**
+     * Log finished.
+     */
+    void logFinished() {
+        if (totalTableCount >= INFO_LOG_TABLE_COUNT_THRESHOLD) {
+            log.info("Loaded meta data of {} actual tables in {} batches, elapsed {} ms.", totalTableCount, totalBatchCount, getElapsedMillis());
+        } else {
+            log.debug("Loaded meta data of {} actual tables in {} batches, elapsed {} ms.", totalTableCount, totalBatchCount, getElapsedMillis());
+        }
+    }
+    
+    private long getElapsedMillis() {
+        return System.currentTimeMillis() - startTimeMillis;
+    }
+}
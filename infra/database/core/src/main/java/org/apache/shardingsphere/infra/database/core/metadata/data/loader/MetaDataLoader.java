@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -27,19 +28,26 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMe
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Meta data loader.
@@ -48,8 +56,11 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class MetaDataLoader {
     
-    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
-            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
+    private static final int MAX_TABLES_PER_BATCH = 1000;
+    
+    private static final int MAX_THREADS = Math.max(Runtime.getRuntime().availableProcessors() * 2, 64);
+    
+    private static final ExecutorService EXECUTOR_SERVICE = createExecutorService();
     
     /**
      * Load meta data.
@@ -59,14 +70,32 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
-        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
-        for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+        return load(materials, 1);
+    }
+    
+    /**
+     * Load meta data.
+     *
+     * <p>Actual tables of each material are split into batches, and at most {@code maxConcurrencyPerDataSource} batches of the same data source are loaded at the same time.</p>
+     *
+     * @param materials meta data loader materials
+     * @param maxConcurrencyPerDataSource max concurrency per data source
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final int maxConcurrencyPerDataSource) throws SQLException {
+        List<MetaDataLoaderMaterial> batches = splitBatches(materials);
+        AtomicReferenceArray<Collection<SchemaMetaData>> loadedBatches = new AtomicReferenceArray<>(batches.size());
+        MetaDataLoadProgress progress = new MetaDataLoadProgress(batches);
+        Collection<Future<Void>> futures = new LinkedList<>();
+        for (Queue<Integer> each : groupBatchIndexesByDataSource(batches).values()) {
+            for (int i = 0; i < Math.min(Math.max(maxConcurrencyPerDataSource, 1), each.size()); i++) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> loadBatches(each, batches, loadedBatches, progress)));
+            }
         }
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Future<Void> each : futures) {
+                each.get();
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -76,9 +105,53 @@ public final class MetaDataLoader {
             }
             throw new UnknownSQLException(ex).toSQLException();
         }
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
+        for (int i = 0; i < loadedBatches.length(); i++) {
+            merge(result, Optional.ofNullable(loadedBatches.get(i)).orElse(Collections.emptyList()));
+        }
+        progress.logFinished();
         return result;
     }
     
+    private static ExecutorService createExecutorService() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    private static List<MetaDataLoaderMaterial> splitBatches(final Collection<MetaDataLoaderMaterial> materials) {
+        List<MetaDataLoaderMaterial> result = new ArrayList<>(materials.size());
+        for (MetaDataLoaderMaterial each : materials) {
+            if (each.getActualTableNames().size() <= MAX_TABLES_PER_BATCH) {
+                result.add(each);
+                continue;
+            }
+            for (List<String> actualTableNames : Lists.partition(new ArrayList<>(each.getActualTableNames()), MAX_TABLES_PER_BATCH)) {
+                result.add(new MetaDataLoaderMaterial(actualTableNames, each.getDataSource(), each.getStorageType(), each.getDefaultSchemaName()));
+            }
+        }
+        return result;
+    }
+    
+    private static Map<DataSource, Queue<Integer>> groupBatchIndexesByDataSource(final List<MetaDataLoaderMaterial> batches) {
+        Map<DataSource, Queue<Integer>> result = new IdentityHashMap<>();
+        for (int i = 0; i < batches.size(); i++) {
+            result.computeIfAbsent(batches.get(i).getDataSource(), key -> new ConcurrentLinkedQueue<>()).add(i);
+        }
+        return result;
+    }
+    
+    private static Void loadBatches(final Queue<Integer> batchIndexes, final List<MetaDataLoaderMaterial> batches,
+                                    final AtomicReferenceArray<Collection<SchemaMetaData>> loadedBatches, final MetaDataLoadProgress progress) throws SQLException {
+        for (Integer index = batchIndexes.poll(); null != index; index = batchIndexes.poll()) {
+            MetaDataLoaderMaterial batch = batches.get(index);
+            loadedBatches.set(index, load(batch));
+            progress.finishBatch(batch);
+        }
+        return null;
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
@@ -93,8 +166,10 @@ public final class MetaDataLoader {
     
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
         Collection<TableMetaData> tableMetaData = new LinkedList<>();
-        for (String each : material.getActualTableNames()) {
-            TableMetaDataLoader.load(material.getDataSource(), each, material.getStorageType()).ifPresent(tableMetaData::add);
+        if (1 == material.getActualTableNames().size()) {
+            TableMetaDataLoader.load(material.getDataSource(), material.getActualTableNames().iterator().next(), material.getStorageType()).ifPresent(tableMetaData::add);
+        } else {
+            tableMetaData.addAll(TableMetaDataLoader.load(material.getDataSource(), material.getActualTableNames(), material.getStorageType()));
         }
         return Collections.singletonList(new SchemaMetaData(material.getDefaultSchemaName(), tableMetaData));
     }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.database.core.metadata.data.loader.type;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
@@ -30,9 +31,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -50,6 +55,8 @@ public final class ColumnMetaDataLoader {
     
     private static final String IS_NULLABLE = "IS_NULLABLE";
     
+    private static final int SCHEMA_SCAN_MAX_TABLE_COUNT_MULTIPLE = 2;
+    
     /**
      * Load column meta data list.
      *
@@ -60,30 +67,83 @@ public final class ColumnMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Collection<ColumnMetaData> load(final Connection connection, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
-        Collection<ColumnMetaData> result = new LinkedList<>();
-        Collection<String> primaryKeys = loadPrimaryKeys(connection, tableNamePattern);
-        List<String> columnNames = new ArrayList<>();
-        List<Integer> columnTypes = new ArrayList<>();
-        List<Boolean> primaryKeyFlags = new ArrayList<>();
-        List<Boolean> caseSensitiveFlags = new ArrayList<>();
-        List<Boolean> nullableFlags = new ArrayList<>();
+        List<ColumnDefinition> columnDefinitions = new ArrayList<>();
+        try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), tableNamePattern, "%")) {
+            while (resultSet.next()) {
+                if (Objects.equals(tableNamePattern, resultSet.getString(TABLE_NAME))) {
+                    columnDefinitions.add(new ColumnDefinition(resultSet));
+                }
+            }
+        }
+        return load(connection, tableNamePattern, columnDefinitions, databaseType);
+    }
+    
+    /**
+     * Load column meta data of tables.
+     *
+     * <p>If tables cover a large share of the schema, columns of all tables in schema are scanned by one catalog query, otherwise columns are queried table by table,
+     * so small batches in large schemas never scan the whole schema.</p>
+     *
+     * @param connection connection
+     * @param tableNames table names
+     * @param databaseType database type
+     * @return column meta data map, key is table name, tables without any column are excluded
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<ColumnMetaData>> load(final Connection connection, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        Map<String, List<ColumnDefinition>> columnDefinitions = new LinkedHashMap<>(tableNames.size(), 1F);
+        if (isScanSchemaColumns(connection, tableNames.size())) {
+            loadColumnDefinitions(connection, "%", tableNames, columnDefinitions);
+        } else {
+            for (String each : tableNames) {
+                loadColumnDefinitions(connection, each, Collections.singleton(each), columnDefinitions);
+            }
+        }
+        Map<String, Collection<ColumnMetaData>> result = new LinkedHashMap<>(columnDefinitions.size(), 1F);
+        for (Entry<String, List<ColumnDefinition>> entry : columnDefinitions.entrySet()) {
+            result.put(entry.getKey(), load(connection, entry.getKey(), entry.getValue(), databaseType));
+        }
+        return result;
+    }
+    
+    private static boolean isScanSchemaColumns(final Connection connection, final int tableCount) throws SQLException {
+        int maxSchemaTableCount = tableCount * SCHEMA_SCAN_MAX_TABLE_COUNT_MULTIPLE;
+        int schemaTableCount = 0;
+        try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), "%", null)) {
+            while (resultSet.next()) {
+                schemaTableCount++;
+                if (schemaTableCount > maxSchemaTableCount) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private static void loadColumnDefinitions(final Connection connection, final String tableNamePattern, final Collection<String> tableNames,
+                                              final Map<String, List<ColumnDefinition>> columnDefinitions) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), tableNamePattern, "%")) {
             while (resultSet.next()) {
                 String tableName = resultSet.getString(TABLE_NAME);
-                if (Objects.equals(tableNamePattern, tableName)) {
-                    String columnName = resultSet.getString(COLUMN_NAME);
-                    columnTypes.add(resultSet.getInt(DATA_TYPE));
-                    primaryKeyFlags.add(primaryKeys.contains(columnName));
-                    nullableFlags.add("YES".equals(resultSet.getString(IS_NULLABLE)));
-                    columnNames.add(columnName);
+                if (tableNames.contains(tableName)) {
+                    columnDefinitions.computeIfAbsent(tableName, key -> new ArrayList<>()).add(new ColumnDefinition(resultSet));
                 }
             }
         }
-        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(generateEmptyResultSQL(tableNamePattern, columnNames, databaseType))) {
-            for (int i = 0; i < columnNames.size(); i++) {
+    }
+    
+    private static Collection<ColumnMetaData> load(final Connection connection, final String tableName, final List<ColumnDefinition> columnDefinitions,
+                                                   final DatabaseType databaseType) throws SQLException {
+        Collection<ColumnMetaData> result = new LinkedList<>();
+        Collection<String> primaryKeys = loadPrimaryKeys(connection, tableName);
+        List<String> columnNames = columnDefinitions.stream().map(ColumnDefinition::getName).collect(Collectors.toList());
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(generateEmptyResultSQL(tableName, columnNames, databaseType))) {
+            for (int i = 0; i < columnDefinitions.size(); i++) {
+                ColumnDefinition columnDefinition = columnDefinitions.get(i);
                 boolean generated = resultSet.getMetaData().isAutoIncrement(i + 1);
-                caseSensitiveFlags.add(resultSet.getMetaData().isCaseSensitive(resultSet.findColumn(columnNames.get(i))));
-                result.add(new ColumnMetaData(columnNames.get(i), columnTypes.get(i), primaryKeyFlags.get(i), generated, caseSensitiveFlags.get(i), true, false, nullableFlags.get(i)));
+                boolean caseSensitive = resultSet.getMetaData().isCaseSensitive(resultSet.findColumn(columnDefinition.getName()));
+                result.add(new ColumnMetaData(columnDefinition.getName(), columnDefinition.getDataType(),
+                        primaryKeys.contains(columnDefinition.getName()), generated, caseSensitive, true, false, columnDefinition.isNullable()));
             }
         }
         return result;
@@ -104,4 +164,20 @@ public final class ColumnMetaDataLoader {
         }
         return result;
     }
+    
+    @Getter
+    private static final class ColumnDefinition {
+        
+        private final String name;
+        
+        private final int dataType;
+        
+        private final boolean nullable;
+        
+        ColumnDefinition(final ResultSet resultSet) throws SQLException {
+            name = resultSet.getString(COLUMN_NAME);
+            dataType = resultSet.getInt(DATA_TYPE);
+            nullable = "YES".equals(resultSet.getString(IS_NULLABLE));
+        }
+    }
 }
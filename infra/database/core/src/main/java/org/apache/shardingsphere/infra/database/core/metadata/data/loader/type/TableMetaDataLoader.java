@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.database.core.metadata.data.loader.type;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderConnection;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -29,7 +30,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -58,6 +64,37 @@ public final class TableMetaDataLoader {
         }
     }
     
+    /**
+     * Load meta data of tables with one connection and set-based catalog queries.
+     *
+     * @param dataSource data source
+     * @param tableNamePatterns table name patterns
+     * @param databaseType database type
+     * @return table meta data, not existed tables are excluded
+     * @throws SQLException SQL exception
+     */
+    public static Collection<TableMetaData> load(final DataSource dataSource, final Collection<String> tableNamePatterns, final DatabaseType databaseType) throws SQLException {
+        if (tableNamePatterns.isEmpty()) {
+            return Collections.emptyList();
+        }
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData();
+        Map<String, String> tableNamePatternMap = new LinkedHashMap<>(tableNamePatterns.size(), 1F);
+        for (String each : tableNamePatterns) {
+            tableNamePatternMap.put(dialectDatabaseMetaData.formatTableNamePattern(each), each);
+        }
+        Collection<TableMetaData> result = new LinkedList<>();
+        try (MetaDataLoaderConnection connection = new MetaDataLoaderConnection(databaseType, dataSource.getConnection())) {
+            Map<String, Collection<ColumnMetaData>> columnMetaDataMap = ColumnMetaDataLoader.load(connection, tableNamePatternMap.keySet(), databaseType);
+            for (Entry<String, String> entry : tableNamePatternMap.entrySet()) {
+                Collection<ColumnMetaData> columnMetaDataList = columnMetaDataMap.get(entry.getKey());
+                if (null != columnMetaDataList) {
+                    result.add(new TableMetaData(entry.getValue(), columnMetaDataList, IndexMetaDataLoader.load(connection, entry.getKey()), Collections.emptyList()));
+                }
+            }
+        }
+        return result;
+    }
+    
     private static boolean isTableExist(final Connection connection, final String tableNamePattern) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), tableNamePattern, null)) {
             return resultSet.next();
@@ -138,4 +138,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default boolean isSupportGlobalCSN() {
         return false;
     }
+    
+    /**
+     * Is support multiple rows in insert values clause.
+     * 
+     * @return support or not
+     */
+    default boolean isSupportMultiRowInsertValues() {
+        return false;
+    }
 }
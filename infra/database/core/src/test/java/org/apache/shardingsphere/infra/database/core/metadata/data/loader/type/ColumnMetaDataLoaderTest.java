@@ -33,11 +33,15 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +55,9 @@ class ColumnMetaDataLoaderTest {
     @Mock
     private ResultSet primaryResultSet;
     
+    @Mock
+    private ResultSet tableResultSet;
+    
     @Mock
     private ResultSet columnResultSet;
     
@@ -66,11 +73,6 @@ class ColumnMetaDataLoaderTest {
         when(connection.getMetaData().getPrimaryKeys("catalog", null, "tbl")).thenReturn(primaryResultSet);
         when(primaryResultSet.next()).thenReturn(true, false);
         when(primaryResultSet.getString("COLUMN_NAME")).thenReturn("pk_col");
-        when(connection.getMetaData().getColumns("catalog", null, "tbl", "%")).thenReturn(columnResultSet);
-        when(columnResultSet.next()).thenReturn(true, true, false);
-        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl");
-        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
-        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
         when(connection.createStatement().executeQuery(anyString())).thenReturn(caseSensitivesResultSet);
         when(caseSensitivesResultSet.findColumn("pk_col")).thenReturn(1);
         when(caseSensitivesResultSet.findColumn("col")).thenReturn(2);
@@ -80,6 +82,11 @@ class ColumnMetaDataLoaderTest {
     
     @Test
     void assertLoad() throws SQLException {
+        when(connection.getMetaData().getColumns("catalog", null, "tbl", "%")).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
+        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
         Collection<ColumnMetaData> actual = ColumnMetaDataLoader.load(connection, "tbl", databaseType);
         assertThat(actual.size(), is(2));
         Iterator<ColumnMetaData> columnMetaDataIterator = actual.iterator();
@@ -87,6 +94,39 @@ class ColumnMetaDataLoaderTest {
         assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, false, false);
     }
     
+    @Test
+    void assertLoadWithTableNamesCoveringSchema() throws SQLException {
+        when(connection.getMetaData().getTables("catalog", null, "%", null)).thenReturn(tableResultSet);
+        when(tableResultSet.next()).thenReturn(true, true, false);
+        when(connection.getMetaData().getColumns("catalog", null, "%", "%")).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl", "other_tbl", "tbl");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
+        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
+        Map<String, Collection<ColumnMetaData>> actual = ColumnMetaDataLoader.load(connection, Collections.singleton("tbl"), databaseType);
+        assertThat(actual.size(), is(1));
+        Iterator<ColumnMetaData> columnMetaDataIterator = actual.get("tbl").iterator();
+        assertColumnMetaData(columnMetaDataIterator.next(), "pk_col", Types.INTEGER, true, true);
+        assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, false, false);
+    }
+    
+    @Test
+    void assertLoadWithTableNamesInLargeSchema() throws SQLException {
+        when(connection.getMetaData().getTables("catalog", null, "%", null)).thenReturn(tableResultSet);
+        when(tableResultSet.next()).thenReturn(true, true, true, false);
+        when(connection.getMetaData().getColumns("catalog", null, "tbl", "%")).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
+        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
+        Map<String, Collection<ColumnMetaData>> actual = ColumnMetaDataLoader.load(connection, Collections.singleton("tbl"), databaseType);
+        assertThat(actual.size(), is(1));
+        Iterator<ColumnMetaData> columnMetaDataIterator = actual.get("tbl").iterator();
+        assertColumnMetaData(columnMetaDataIterator.next(), "pk_col", Types.INTEGER, true, true);
+        assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, false, false);
+        verify(connection.getMetaData(), never()).getColumns("catalog", null, "%", "%");
+    }
+    
     private void assertColumnMetaData(final ColumnMetaData actual, final String name, final int dataType, final boolean primaryKey, final boolean caseSensitive) {
         assertThat(actual.getName(), is(name));
         assertThat(actual.getDataType(), is(dataType));
@@ -39,6 +39,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -92,6 +93,7 @@ class TableMetaDataLoaderTest {
         when(tableExistResultSet.next()).thenReturn(true);
         when(dataSource.getConnection().getMetaData().getTables(TEST_CATALOG, null, NOT_EXISTED_TABLE, null)).thenReturn(mock(ResultSet.class));
         when(dataSource.getConnection().getMetaData().getColumns(TEST_CATALOG, null, TEST_TABLE, "%")).thenReturn(columnResultSet);
+        when(dataSource.getConnection().getMetaData().getColumns(TEST_CATALOG, null, "%", "%")).thenReturn(columnResultSet);
         when(columnResultSet.next()).thenReturn(true, true, false);
         when(columnResultSet.getString("TABLE_NAME")).thenReturn(TEST_TABLE);
         when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
@@ -124,6 +126,21 @@ class TableMetaDataLoaderTest {
         assertThat(indexesIterator.next().getName(), is("my_index"));
     }
     
+    @Test
+    void assertLoadWithMultipleTables() throws SQLException {
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(
+                Collections.singleton(new MetaDataLoaderMaterial(Arrays.asList(TEST_TABLE, NOT_EXISTED_TABLE), dataSource, databaseType, "sharding_db")), 2);
+        Collection<TableMetaData> tables = actual.get("sharding_db").getTables();
+        assertThat(tables.size(), is(1));
+        TableMetaData tableMetaData = tables.iterator().next();
+        assertThat(tableMetaData.getName(), is(TEST_TABLE));
+        Iterator<ColumnMetaData> columnsIterator = tableMetaData.getColumns().iterator();
+        assertColumnMetaData(columnsIterator.next(), "pk_col", Types.INTEGER, true, true);
+        assertColumnMetaData(columnsIterator.next(), "col", Types.VARCHAR, false, false);
+        assertFalse(columnsIterator.hasNext());
+        assertThat(tableMetaData.getIndexes().iterator().next().getName(), is("my_index"));
+    }
+    
     private void assertColumnMetaData(final ColumnMetaData actual, final String name, final int dataType, final boolean primaryKey, final boolean caseSensitive) {
         assertThat(actual.getName(), is(name));
         assertThat(actual.getDataType(), is(dataType));
@@ -19,10 +19,12 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadMode;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorResultHandler;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
@@ -31,7 +33,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 
 /**
@@ -43,8 +47,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final ExecutorThreadMode threadMode) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadMode);
     }
     
     /**
@@ -54,7 +58,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, ExecutorThreadMode.PLATFORM);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread mode.
+     *
+     * @param executorSize executor size, ignored if virtual thread mode is used
+     * @param threadMode executor thread mode
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndMode(final int executorSize, final ExecutorThreadMode threadMode) {
+        return new ExecutorEngine(executorSize, threadMode);
     }
     
     /**
@@ -78,6 +93,66 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute and handle results in completion order.
+     * 
+     * <p>Results of each execution group are passed to result handler as soon as the group is finished, so consumer can start processing before the slowest group returns.
+     * Result handler is always called in the caller thread.
+     * If any group fails, the handler throws or the caller thread is interrupted, groups not started yet are cancelled and the exception is thrown,
+     * so results are never partially returned.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param resultHandler result handler
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> void execute(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                               final boolean serial, final ExecutorResultHandler<O> resultHandler) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return;
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        if (serial) {
+            resultHandler.handle(syncExecute(executionGroups.next(), processId, null == firstCallback ? callback : firstCallback));
+            while (executionGroups.hasNext()) {
+                resultHandler.handle(syncExecute(executionGroups.next(), processId, callback));
+            }
+            return;
+        }
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Collection<Future<Collection<O>>> restResultFutures = new LinkedList<>();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            restResultFutures.add(completionService.submit(executorServiceManager.getMetrics().wrap(() -> callback.execute(each.getInputs(), false, processId))));
+        }
+        try {
+            resultHandler.handle(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+            handleCompletedResults(completionService, restResultFutures.size(), resultHandler);
+        } catch (final SQLException | RuntimeException ex) {
+            restResultFutures.forEach(each -> each.cancel(false));
+            throw ex;
+        }
+    }
+    
+    private <O> void handleCompletedResults(final CompletionService<Collection<O>> completionService, final int groupCount, final ExecutorResultHandler<O> resultHandler) throws SQLException {
+        for (int i = 0; i < groupCount; i++) {
+            try {
+                resultHandler.handle(completionService.take().get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throwException(ex);
+            } catch (final ExecutionException ex) {
+                throwException(ex);
+            }
+        }
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -108,7 +183,7 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+        return executorServiceManager.getExecutorService().submit(executorServiceManager.getMetrics().wrap(() -> callback.execute(executionGroup.getInputs(), false, processId)));
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
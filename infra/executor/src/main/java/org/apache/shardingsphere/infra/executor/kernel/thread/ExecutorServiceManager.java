@@ -19,7 +19,10 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadMode;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,6 +32,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -37,12 +41,24 @@ public final class ExecutorServiceManager {
     
     private final ExecutorService executorService;
     
+    private final ExecutorServiceMetrics metrics;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorThreadMode threadMode) {
+        this(executorSize, DEFAULT_NAME_FORMAT, threadMode);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ExecutorThreadMode.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorThreadMode threadMode) {
+        Optional<ExecutorService> virtualExecutorService = ExecutorThreadMode.VIRTUAL == threadMode ? createVirtualThreadExecutorService(nameFormat) : Optional.empty();
+        executorService = TtlExecutors.getTtlExecutorService(virtualExecutorService.orElseGet(() -> getExecutorService(executorSize, nameFormat)));
+        metrics = new ExecutorServiceMetrics(virtualExecutorService.isPresent() ? ExecutorThreadMode.VIRTUAL : ExecutorThreadMode.PLATFORM);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,6 +66,20 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private Optional<ExecutorService> createVirtualThreadExecutorService(final String nameFormat) {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat);
+        if (!threadFactory.isPresent()) {
+            log.warn("Virtual thread is unsupported by current JVM, fall back to platform thread.");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory.get()));
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Can not create virtual thread executor service, fall back to platform thread.", ex);
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadMode;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor service metrics.
+ */
+@RequiredArgsConstructor
+public final class ExecutorServiceMetrics {
+    
+    @Getter
+    private final ExecutorThreadMode threadMode;
+    
+    private final LongAdder completedTaskCount = new LongAdder();
+    
+    private final LongAdder queueWaitNanos = new LongAdder();
+    
+    private final LongAdder runNanos = new LongAdder();
+    
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0L);
+    
+    /**
+     * Wrap task to record queue wait time and run time.
+     *
+     * @param task task to be wrapped
+     * @param <T> type of task result
+     * @return wrapped task
+     */
+    public <T> Callable<T> wrap(final Callable<T> task) {
+        long submittedNanos = System.nanoTime();
+        return () -> {
+            long startNanos = System.nanoTime();
+            long queueWait = startNanos - submittedNanos;
+            queueWaitNanos.add(queueWait);
+            maxQueueWaitNanos.accumulate(queueWait);
+            try {
+                return task.call();
+            } finally {
+                runNanos.add(System.nanoTime() - startNanos);
+                completedTaskCount.increment();
+            }
+        };
+    }
+    
+    /**
+     * Get completed task count.
+     *
+     * @return completed task count
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+    
+    /**
+     * Get total queue wait time in nanoseconds.
+     *
+     * @return total queue wait time in nanoseconds
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+    
+    /**
+     * Get max queue wait time in nanoseconds.
+     *
+     * @return max queue wait time in nanoseconds
+     */
+    public long getMaxQueueWaitNanos() {
+        return maxQueueWaitNanos.get();
+    }
+    
+    /**
+     * Get total run time in nanoseconds.
+     *
+     * @return total run time in nanoseconds
+     */
+    public long getRunNanos() {
+        return runNanos.sum();
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorResultHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
@@ -69,4 +70,23 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and handle results in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param resultHandler result handler
+     * @param <T> class type of return value
+     * @throws SQLException SQL exception
+     */
+    public <T> void execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback,
+                            final JDBCExecutorCallback<T> callback, final ExecutorResultHandler<T> resultHandler) throws SQLException {
+        try {
+            executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInDistributedTransaction(), resultHandler);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+        }
+    }
 }
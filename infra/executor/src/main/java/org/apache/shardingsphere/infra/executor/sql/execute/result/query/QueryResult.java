@@ -47,6 +47,47 @@ public interface QueryResult extends ExecuteResult, AutoCloseable {
      */
     Object getValue(int columnIndex, Class<?> type) throws SQLException;
     
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, 0 if value is null
+     * @throws SQLException SQL exception
+     */
+    default long getLong(final int columnIndex) throws SQLException {
+        Object result = getValue(columnIndex, long.class);
+        if (null == result) {
+            return 0L;
+        }
+        return result instanceof Number ? ((Number) result).longValue() : Long.parseLong(result.toString());
+    }
+    
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, 0 if value is null
+     * @throws SQLException SQL exception
+     */
+    default int getInt(final int columnIndex) throws SQLException {
+        Object result = getValue(columnIndex, int.class);
+        if (null == result) {
+            return 0;
+        }
+        return result instanceof Number ? ((Number) result).intValue() : Integer.parseInt(result.toString());
+    }
+    
+    /**
+     * Get bytes value.
+     *
+     * @param columnIndex column index
+     * @return bytes value
+     * @throws SQLException SQL exception
+     */
+    default byte[] getBytes(final int columnIndex) throws SQLException {
+        return (byte[]) getValue(columnIndex, byte[].class);
+    }
+    
     /**
      * Get calendar value.
      *
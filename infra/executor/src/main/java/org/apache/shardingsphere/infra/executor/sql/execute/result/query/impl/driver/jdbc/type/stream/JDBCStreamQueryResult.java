@@ -31,31 +31,149 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
+ * 
+ * <p>Converted values of current row are memoized per column, so that reading the same cell repeatedly does not convert it again.</p>
  */
 public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Getter
     private final ResultSet resultSet;
     
+    private final Class<?>[] cachedTypes;
+    
+    private final Object[] cachedValues;
+    
+    private final long[] cachedNumbers;
+    
+    private final boolean[] cachedNulls;
+    
+    private boolean lastValueCached;
+    
+    private boolean lastValueNull;
+    
+    private long fetchedRows;
+    
+    private LongConsumer fetchedRowsListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = null == resultSetMetaData ? 0 : resultSetMetaData.getColumnCount();
+        cachedTypes = new Class<?>[columnCount + 1];
+        cachedValues = new Object[columnCount + 1];
+        cachedNumbers = new long[columnCount + 1];
+        cachedNulls = new boolean[columnCount + 1];
     }
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        Arrays.fill(cachedTypes, null);
+        Arrays.fill(cachedValues, null);
+        lastValueCached = false;
+        boolean result = resultSet.next();
+        if (result) {
+            fetchedRows++;
+        } else {
+            notifyFetchedRows();
+        }
+        return result;
+    }
+    
+    /**
+     * Set fetched rows listener, which is notified once with fetched rows count when result set is exhausted or closed.
+     *
+     * @param fetchedRowsListener fetched rows listener
+     */
+    public void setFetchedRowsListener(final LongConsumer fetchedRowsListener) {
+        this.fetchedRowsListener = fetchedRowsListener;
+    }
+    
+    private void notifyFetchedRows() {
+        if (null != fetchedRowsListener) {
+            fetchedRowsListener.accept(fetchedRows);
+            fetchedRowsListener = null;
+        }
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (long.class == type) {
+            return getLong(columnIndex);
+        }
+        if (int.class == type) {
+            return getInt(columnIndex);
+        }
+        if (!isCacheable(columnIndex)) {
+            lastValueCached = false;
+            return getResultSetValue(columnIndex, type);
+        }
+        if (type != cachedTypes[columnIndex]) {
+            cachedValues[columnIndex] = getResultSetValue(columnIndex, type);
+            cacheType(columnIndex, type);
+        }
+        setLastValueCached(columnIndex);
+        return cachedValues[columnIndex];
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        if (!isCacheable(columnIndex)) {
+            lastValueCached = false;
+            return resultSet.getLong(columnIndex);
+        }
+        if (long.class != cachedTypes[columnIndex]) {
+            cachedNumbers[columnIndex] = resultSet.getLong(columnIndex);
+            cacheType(columnIndex, long.class);
+        }
+        setLastValueCached(columnIndex);
+        return cachedNumbers[columnIndex];
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        if (!isCacheable(columnIndex)) {
+            lastValueCached = false;
+            return resultSet.getInt(columnIndex);
+        }
+        if (int.class != cachedTypes[columnIndex]) {
+            cachedNumbers[columnIndex] = resultSet.getInt(columnIndex);
+            cacheType(columnIndex, int.class);
+        }
+        setLastValueCached(columnIndex);
+        return (int) cachedNumbers[columnIndex];
+    }
+    
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        return (byte[]) getValue(columnIndex, byte[].class);
+    }
+    
+    private boolean isCacheable(final int columnIndex) {
+        return columnIndex > 0 && columnIndex < cachedTypes.length;
+    }
+    
+    private void cacheType(final int columnIndex, final Class<?> type) throws SQLException {
+        cachedNulls[columnIndex] = resultSet.wasNull();
+        cachedTypes[columnIndex] = type;
+    }
+    
+    private void setLastValueCached(final int columnIndex) {
+        lastValueCached = true;
+        lastValueNull = cachedNulls[columnIndex];
+    }
+    
+    private Object getResultSetValue(final int columnIndex, final Class<?> type) throws SQLException {
         if (boolean.class == type) {
             return resultSet.getBoolean(columnIndex);
         }
@@ -65,12 +183,6 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         if (short.class == type) {
             return resultSet.getShort(columnIndex);
         }
-        if (int.class == type) {
-            return resultSet.getInt(columnIndex);
-        }
-        if (long.class == type) {
-            return resultSet.getLong(columnIndex);
-        }
         if (float.class == type) {
             return resultSet.getFloat(columnIndex);
         }
@@ -109,6 +221,7 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        lastValueCached = false;
         if (Date.class == type) {
             return resultSet.getDate(columnIndex, calendar);
         }
@@ -124,6 +237,7 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @SuppressWarnings("deprecation")
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        lastValueCached = false;
         switch (type) {
             case "Ascii":
                 return resultSet.getAsciiStream(columnIndex);
@@ -138,16 +252,18 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        lastValueCached = false;
         return resultSet.getCharacterStream(columnIndex);
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return resultSet.wasNull();
+        return lastValueCached ? lastValueNull : resultSet.wasNull();
     }
     
     @Override
     public void close() throws SQLException {
+        notifyFetchedRows();
         resultSet.close();
     }
 }
@@ -65,18 +65,31 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         Collection<ExecutionGroup<T>> result = new LinkedList<>();
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
-            List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue());
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int maxConnectionsSize = Math.max(getMaxConnectionsSize(dataSourceName, maxConnectionsSizePerQuery, entry.getValue().size()), 1);
+            List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue(), maxConnectionsSize);
+            ConnectionMode connectionMode = maxConnectionsSize < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionMode));
         }
         return decorate(routeContext, result, reportContext);
     }
     
-    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits, final int maxConnectionsSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSize ? sqlUnits.size() / maxConnectionsSize : sqlUnits.size() / maxConnectionsSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
+    /**
+     * Get max connections size which can be used by one query on the data source.
+     *
+     * @param dataSourceName data source name
+     * @param maxConnectionsSizePerQuery configured max connections size per query
+     * @param executionUnitSize execution unit size of the data source
+     * @return max connections size
+     */
+    protected int getMaxConnectionsSize(final String dataSourceName, final int maxConnectionsSizePerQuery, final int executionUnitSize) {
+        return maxConnectionsSizePerQuery;
+    }
+    
     protected abstract List<ExecutionGroup<T>> group(String dataSourceName, int connectionOffset, List<List<ExecutionUnit>> executionUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
     private Map<String, List<ExecutionUnit>> aggregateExecutionUnitGroups(final Collection<ExecutionUnit> executionUnits) {
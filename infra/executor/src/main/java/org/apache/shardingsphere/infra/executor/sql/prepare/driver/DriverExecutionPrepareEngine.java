@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
 
+import com.google.common.primitives.Ints;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnitExecuteStatistics;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
@@ -32,6 +34,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -42,6 +45,14 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>, C> extends AbstractExecutionPrepareEngine<T> {
     
+    private static final long ADAPTIVE_MIN_SAMPLES_COUNT = 32L;
+    
+    private static final double ADAPTIVE_PERCENTILE = 0.9D;
+    
+    private static final long ADAPTIVE_HEAVY_RESULT_ROWS = 10000L;
+    
+    private static final long ADAPTIVE_SLOW_LATENCY_MICROS = 10000L;
+    
     @SuppressWarnings("rawtypes")
     private static final Map<String, SQLExecutionUnitBuilder> TYPE_TO_BUILDER_MAP = new ConcurrentHashMap<>(8, 1F);
     
@@ -56,15 +67,24 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     private final Map<String, StorageUnit> storageUnits;
     
+    private final boolean adaptiveConnectionModeEnabled;
+    
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, StorageUnit> storageUnits) {
+        this(type, maxConnectionsSizePerQuery, databaseConnectionManager, statementManager, option, rules, storageUnits, false);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
+                                        final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
+                                        final Map<String, StorageUnit> storageUnits, final boolean adaptiveConnectionModeEnabled) {
         super(maxConnectionsSizePerQuery, rules);
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
         this.option = option;
         sqlExecutionUnitBuilder = getCachedSqlExecutionUnitBuilder(type);
         this.storageUnits = storageUnits;
+        this.adaptiveConnectionModeEnabled = adaptiveConnectionModeEnabled;
     }
     
     /**
@@ -82,6 +102,36 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected int getMaxConnectionsSize(final String dataSourceName, final int maxConnectionsSizePerQuery, final int executionUnitSize) {
+        if (!adaptiveConnectionModeEnabled || executionUnitSize <= 1) {
+            return maxConnectionsSizePerQuery;
+        }
+        StorageUnit storageUnit = storageUnits.get(dataSourceName);
+        if (null == storageUnit) {
+            return maxConnectionsSizePerQuery;
+        }
+        StorageUnitExecuteStatistics executeStatistics = storageUnit.getExecuteStatistics();
+        Optional<Integer> maxPoolSize = findMaxPoolSize(storageUnit);
+        if (!maxPoolSize.isPresent() || executeStatistics.getLatencySamplesCount() < ADAPTIVE_MIN_SAMPLES_COUNT) {
+            return maxConnectionsSizePerQuery;
+        }
+        int headroom = Math.max(maxPoolSize.get() - executeStatistics.getActiveExecutions(), 1);
+        return isHeavyQuery(executeStatistics) ? Math.min(executionUnitSize, headroom) : Math.min(maxConnectionsSizePerQuery, headroom);
+    }
+    
+    private Optional<Integer> findMaxPoolSize(final StorageUnit storageUnit) {
+        Object result = storageUnit.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties().get("maxPoolSize");
+        return null == result ? Optional.empty() : Optional.ofNullable(Ints.tryParse(result.toString()));
+    }
+    
+    private boolean isHeavyQuery(final StorageUnitExecuteStatistics executeStatistics) {
+        if (executeStatistics.getResultRowsSamplesCount() >= ADAPTIVE_MIN_SAMPLES_COUNT && executeStatistics.getResultRowsPercentile(ADAPTIVE_PERCENTILE) >= ADAPTIVE_HEAVY_RESULT_ROWS) {
+            return true;
+        }
+        return executeStatistics.getLatencyPercentileMicros(ADAPTIVE_PERCENTILE) >= ADAPTIVE_SLOW_LATENCY_MICROS;
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final int connectionOffset, final List<List<ExecutionUnit>> executionUnitGroups,
                                             final ConnectionMode connectionMode) throws SQLException {
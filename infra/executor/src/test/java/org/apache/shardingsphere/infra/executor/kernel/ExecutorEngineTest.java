@@ -17,22 +17,33 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -82,10 +93,107 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithMetrics() throws SQLException, InterruptedException {
+        executorEngine.execute(executionGroupContext, firstCallback, callback, false);
+        latch.await();
+        assertThat(executorEngine.getExecutorServiceManager().getMetrics().getCompletedTaskCount(), is(1L));
+    }
+    
     @Test
     void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteWithResultHandler() throws SQLException, InterruptedException {
+        List<String> actual = new LinkedList<>();
+        executorEngine.execute(executionGroupContext, firstCallback, callback, false, actual::addAll);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertSerialExecuteWithResultHandler() throws SQLException, InterruptedException {
+        List<String> actual = new LinkedList<>();
+        executorEngine.execute(executionGroupContext, firstCallback, callback, true, actual::addAll);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertParallelExecuteWithResultHandlerInCompletionOrder() throws SQLException {
+        CountDownLatch fastGroupHandledLatch = new CountDownLatch(1);
+        List<String> actual = new LinkedList<>();
+        executorEngine.execute(createExecutionGroups("first", "slow", "fast"), null, (inputs, isTrunkThread, processId) -> executeGroup(inputs, fastGroupHandledLatch), false, results -> {
+            actual.addAll(results);
+            if (results.contains("fast")) {
+                fastGroupHandledLatch.countDown();
+            }
+        });
+        assertThat(actual, is(Arrays.asList("first", "fast", "slow")));
+    }
+    
+    private Collection<String> executeGroup(final Collection<Object> inputs, final CountDownLatch fastGroupHandledLatch) {
+        String result = (String) inputs.iterator().next();
+        if ("slow".equals(result)) {
+            awaitQuietly(fastGroupHandledLatch);
+        }
+        return Collections.singletonList(result);
+    }
+    
+    @Test
+    void assertParallelExecuteWithResultHandlerCancelRestGroupsWhenFailed() throws InterruptedException, ExecutionException {
+        ExecutorEngine singleThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1);
+        try {
+            CountDownLatch blockingLatch = new CountDownLatch(1);
+            Collection<Object> executedInputs = new ConcurrentLinkedQueue<>();
+            ExecutorCallback<Object, String> callback = (inputs, isTrunkThread, processId) -> {
+                executedInputs.addAll(inputs);
+                if (inputs.contains("failed")) {
+                    throw new SQLException("failed");
+                }
+                if (inputs.contains("blocking")) {
+                    awaitQuietly(blockingLatch);
+                }
+                return Collections.emptyList();
+            };
+            assertThrows(SQLException.class, () -> singleThreadExecutorEngine.execute(createExecutionGroups("failed", "blocking", "queued"), null, callback, false, results -> {
+            }));
+            blockingLatch.countDown();
+            singleThreadExecutorEngine.getExecutorServiceManager().getExecutorService().submit(() -> {
+            }).get();
+            assertThat(executedInputs.size(), is(2));
+            assertFalse(executedInputs.contains("queued"));
+        } finally {
+            singleThreadExecutorEngine.close();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitQuietly(final CountDownLatch latch) {
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void assertParallelExecuteWithResultHandlerWhenInterrupted() {
+        List<String> actual = new LinkedList<>();
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(UnknownSQLException.class, () -> executorEngine.execute(executionGroupContext, firstCallback, callback, false, actual::addAll));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertThat(actual.size(), is(2));
+    }
+    
+    private ExecutionGroupContext<Object> createExecutionGroups(final String... inputs) {
+        Collection<ExecutionGroup<Object>> result = new LinkedList<>();
+        for (String each : inputs) {
+            result.add(new ExecutionGroup<>(Collections.singletonList(each)));
+        }
+        return new ExecutionGroupContext<>(result, mock(ExecutionGroupReportContext.class));
+    }
 }
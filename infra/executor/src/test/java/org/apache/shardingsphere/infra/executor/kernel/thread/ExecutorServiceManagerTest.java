@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.TransmittableThreadLocal;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadMode;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
@@ -62,4 +65,20 @@ class ExecutorServiceManagerTest {
             throw ex;
         }
     }
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertVirtualThreadModeFallbackToPlatform() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, ExecutorThreadMode.VIRTUAL);
+        assertThat(executorServiceManager.getMetrics().getThreadMode(), is(ExecutorThreadMode.PLATFORM));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertVirtualThreadMode() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, ExecutorThreadMode.VIRTUAL);
+        assertThat(executorServiceManager.getMetrics().getThreadMode(), is(ExecutorThreadMode.VIRTUAL));
+        executorServiceManager.close();
+    }
 }
@@ -29,14 +29,20 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +55,27 @@ class JDBCStreamQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    void assertNotifyFetchedRowsOnceWhenExhausted() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        List<Long> actual = new LinkedList<>();
+        queryResult.setFetchedRowsListener(actual::add);
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.next());
+        queryResult.close();
+        assertThat(actual, is(Collections.singletonList(1L)));
+    }
+    
+    @Test
+    void assertNotifyFetchedRowsWhenClosed() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        List<Long> actual = new LinkedList<>();
+        queryResult.setFetchedRowsListener(actual::add);
+        assertTrue(queryResult.next());
+        queryResult.close();
+        assertThat(actual, is(Collections.singletonList(1L)));
+    }
+    
     @Test
     void assertGetValueByBoolean() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
@@ -255,6 +282,42 @@ class JDBCStreamQueryResultTest {
         assertTrue(queryResult.wasNull());
     }
     
+    @Test
+    void assertGetValueWithMemoizedValue() throws SQLException {
+        ResultSet resultSet = getResultSetWithColumnCount();
+        when(resultSet.getString(1)).thenReturn("foo");
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(resultSet.wasNull()).thenReturn(false);
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, String.class), is("foo"));
+        assertThat(queryResult.getValue(1, String.class), is("foo"));
+        assertFalse(queryResult.wasNull());
+        assertThat(queryResult.getLong(1), is(1L));
+        assertThat(queryResult.getValue(1, long.class), is(1L));
+        assertFalse(queryResult.next());
+        assertThat(queryResult.getValue(1, String.class), is("foo"));
+        verify(resultSet, times(2)).getString(1);
+        verify(resultSet, times(1)).getLong(1);
+    }
+    
+    @Test
+    void assertGetPrimitiveValuesWithNull() throws SQLException {
+        ResultSet resultSet = getResultSetWithColumnCount();
+        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.getBytes(1)).thenReturn(null);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getInt(1), is(0));
+        assertTrue(queryResult.wasNull());
+        assertNull(queryResult.getBytes(1));
+        assertNull(queryResult.getBytes(1));
+        assertTrue(queryResult.wasNull());
+        verify(resultSet).getInt(1);
+        verify(resultSet).getBytes(1);
+    }
+    
     @Test
     void assertGetResultSet() throws SQLException {
         JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
@@ -273,4 +336,11 @@ class JDBCStreamQueryResultTest {
         when(result.wasNull()).thenReturn(false).thenReturn(true);
         return result;
     }
+    
+    private ResultSet getResultSetWithColumnCount() throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.next()).thenReturn(true).thenReturn(false);
+        return result;
+    }
 }
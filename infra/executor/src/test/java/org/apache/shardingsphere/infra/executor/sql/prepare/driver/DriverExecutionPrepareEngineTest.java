@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnitExecuteStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DriverExecutionPrepareEngineTest {
+    
+    private final StorageUnitExecuteStatistics executeStatistics = new StorageUnitExecuteStatistics();
+    
+    @Test
+    void assertGetMaxConnectionsSizeWhenAdaptiveConnectionModeDisabled() {
+        recordExecutions(64, 1L, 20000L);
+        assertThat(createPrepareEngine(false).getMaxConnectionsSize("foo_ds", 1, 8), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWithSingleExecutionUnit() {
+        recordExecutions(64, 1L, 20000L);
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("foo_ds", 1, 1), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWithUnknownStorageUnit() {
+        recordExecutions(64, 1L, 20000L);
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("bar_ds", 1, 8), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWithoutEnoughSamples() {
+        recordExecutions(8, 1L, 20000L);
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("foo_ds", 1, 8), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeForLightQueries() {
+        recordExecutions(64, 1L, 10L);
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("foo_ds", 1, 8), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeForHeavyResultRows() {
+        recordExecutions(64, 1L, 20000L);
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("foo_ds", 1, 8), is(8));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeForSlowQueries() {
+        recordExecutions(64, 50L, 10L);
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("foo_ds", 1, 8), is(8));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeBoundedByPoolHeadroom() {
+        recordExecutions(64, 1L, 20000L);
+        for (int i = 0; i < 7; i++) {
+            executeStatistics.startExecution();
+        }
+        assertThat(createPrepareEngine(true).getMaxConnectionsSize("foo_ds", 1, 8), is(3));
+    }
+    
+    private void recordExecutions(final int count, final long latencyMillis, final long resultRows) {
+        for (int i = 0; i < count; i++) {
+            executeStatistics.startExecution();
+            executeStatistics.finishExecution(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+            executeStatistics.recordResultRows(resultRows);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createPrepareEngine(final boolean adaptiveConnectionModeEnabled) {
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getExecuteStatistics()).thenReturn(executeStatistics);
+        when(storageUnit.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties()).thenReturn(Collections.singletonMap("maxPoolSize", 10));
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, 1, mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class),
+                mock(StorageResourceOption.class), Collections.emptyList(), Collections.singletonMap("foo_ds", storageUnit), adaptiveConnectionModeEnabled);
+    }
+}
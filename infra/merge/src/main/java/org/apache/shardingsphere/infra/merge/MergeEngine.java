@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.infra.merge.engine.decorator.impl.TransparentResultDecorator;
+import org.apache.shardingsphere.infra.merge.engine.merger.CompletionOrderQueryExecutor;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -71,17 +73,45 @@ public final class MergeEngine {
      * @throws SQLException SQL exception
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
-        Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
-        Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
-        return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
+        return merge(queryResults, sqlStatementContext, findResultMerger(sqlStatementContext).orElse(null));
+    }
+    
+    /**
+     * Execute query and merge query results in completion order.
+     *
+     * <p>Each query result is prepared by result merger as soon as it is returned, so merging starts before the slowest query result is returned.</p>
+     *
+     * @param queryExecutor query executor
+     * @param sqlStatementContext SQL statement context
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    public MergedResult merge(final CompletionOrderQueryExecutor queryExecutor, final SQLStatementContext sqlStatementContext) throws SQLException {
+        Optional<ResultMerger> resultMerger = findResultMerger(sqlStatementContext);
+        List<QueryResult> queryResults = new ArrayList<>();
+        queryExecutor.execute(results -> {
+            for (QueryResult each : results) {
+                if (resultMerger.isPresent()) {
+                    resultMerger.get().prepare(each, sqlStatementContext, database);
+                }
+                queryResults.add(each);
+            }
+        });
+        return merge(queryResults, sqlStatementContext, resultMerger.orElse(null));
+    }
+    
+    private MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final ResultMerger resultMerger) throws SQLException {
+        if (null != resultMerger) {
+            return decorate(resultMerger.merge(queryResults, sqlStatementContext, database, connectionContext), sqlStatementContext);
+        }
+        return decorate(queryResults.get(0), sqlStatementContext).orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Optional<MergedResult> executeMerge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
+    private Optional<ResultMerger> findResultMerger(final SQLStatementContext sqlStatementContext) {
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultMergerEngine) {
-                ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(database.getName(), database.getProtocolType(), entry.getKey(), props, sqlStatementContext);
-                return Optional.of(resultMerger.merge(queryResults, sqlStatementContext, database, connectionContext));
+                return Optional.of(((ResultMergerEngine) entry.getValue()).newInstance(database.getName(), database.getProtocolType(), entry.getKey(), props, sqlStatementContext));
             }
         }
         return Optional.empty();
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.engine.merger;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorResultHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Query executor which passes query results to handler in completion order.
+ */
+@FunctionalInterface
+public interface CompletionOrderQueryExecutor {
+    
+    /**
+     * Execute query.
+     *
+     * @param resultHandler result handler, which is called as soon as query results of each execution group are returned
+     * @throws SQLException SQL exception
+     */
+    void execute(ExecutorResultHandler<QueryResult> resultHandler) throws SQLException;
+}
@@ -31,6 +31,19 @@ import java.util.List;
  */
 public interface ResultMerger {
     
+    /**
+     * Prepare query result before all query results are returned.
+     *
+     * <p>Query results are prepared in completion order of execution and then merged by the same merger, so work on query results returned earlier overlaps waiting for slower ones.</p>
+     *
+     * @param queryResult query result
+     * @param sqlStatementContext SQL statement context
+     * @param database database
+     * @throws SQLException SQL exception
+     */
+    default void prepare(final QueryResult queryResult, final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database) throws SQLException {
+    }
+    
     /**
      * Merge query results.
      * 
@@ -42,6 +42,8 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,4 +88,22 @@ class MergeEngineTest {
                 mock(SQLStatementContext.class));
         assertThat(actual.getValue(1, String.class), is("decorated_merged_value"));
     }
+    
+    @Test
+    void assertMergeInCompletionOrderWithMergerRule() throws SQLException {
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(new MergerRuleFixture()));
+        MergedResult actual = new MergeEngine(database, new ConfigurationProperties(new Properties()), mock(ConnectionContext.class))
+                .merge(resultHandler -> resultHandler.handle(Collections.singletonList(queryResult)), mock(SQLStatementContext.class));
+        assertThat(actual.getValue(1, String.class), is("merged_value"));
+        verify(queryResult).next();
+    }
+    
+    @Test
+    void assertMergeInCompletionOrderWithDecoratorRuleOnly() throws SQLException {
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(new DecoratorRuleFixture()));
+        MergedResult actual = new MergeEngine(database, new ConfigurationProperties(new Properties()), mock(ConnectionContext.class))
+                .merge(resultHandler -> resultHandler.handle(Collections.singletonList(queryResult)), mock(SQLStatementContext.class));
+        assertThat(actual.getValue(1, String.class), is("decorated_value"));
+        verify(queryResult, never()).next();
+    }
 }
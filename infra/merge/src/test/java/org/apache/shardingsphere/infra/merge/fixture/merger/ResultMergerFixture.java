@@ -35,6 +35,11 @@ import static org.mockito.Mockito.when;
 
 public final class ResultMergerFixture implements ResultMerger {
     
+    @Override
+    public void prepare(final QueryResult queryResult, final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database) throws SQLException {
+        queryResult.next();
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
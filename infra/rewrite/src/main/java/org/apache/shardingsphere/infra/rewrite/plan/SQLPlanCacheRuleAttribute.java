@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.Optional;
+
+/**
+ * SQL plan cache rule attribute.
+ */
+public interface SQLPlanCacheRuleAttribute extends RuleAttribute {
+    
+    /**
+     * Find cached SQL plan.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @return found SQL plan
+     */
+    Optional<SQLPlan> find(QueryContext queryContext, ShardingSphereDatabase database);
+    
+    /**
+     * Cache SQL plan if it can be reused by later executions.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param sqlPlan SQL plan
+     */
+    void put(QueryContext queryContext, ShardingSphereDatabase database, SQLPlan sqlPlan);
+}
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.Composable
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * Abstract SQL builder.
@@ -44,43 +46,37 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
+        StringBuilder result = new StringBuilder(context.getSql().length());
         result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
-            } else if (each instanceof SubstitutableColumnNameToken) {
-                result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
-            } else {
-                result.append(getSQLTokenText(each));
-            }
-            result.append(getConjunctionText(each));
-        }
+        appendSQLTokens(context.getSqlTokens(), context.getSql().length(), result);
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+    private void appendSQLTokens(final Collection<SQLToken> sqlTokens, final int lastStopIndex, final StringBuilder result) {
+        Iterator<SQLToken> iterator = sqlTokens.iterator();
+        SQLToken current = iterator.hasNext() ? iterator.next() : null;
+        while (null != current) {
+            SQLToken next = iterator.hasNext() ? iterator.next() : null;
+            appendSQLTokenText(current, result);
+            result.append(context.getSql(), getStartIndex(current), null == next ? lastStopIndex : next.getStartIndex());
+            current = next;
         }
-        return result.toString();
     }
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
+    private void appendSQLTokenText(final SQLToken sqlToken, final StringBuilder result) {
+        if (sqlToken instanceof ComposableSQLToken) {
+            appendSQLTokens(((ComposableSQLToken) sqlToken).getSqlTokens(), Math.min(((ComposableSQLToken) sqlToken).getStopIndex() + 1, context.getSql().length()), result);
+        } else if (sqlToken instanceof SubstitutableColumnNameToken) {
+            result.append(((SubstitutableColumnNameToken) sqlToken).toString(routeUnit));
+        } else {
+            result.append(getSQLTokenText(sqlToken));
+        }
     }
     
     private int getStartIndex(final SQLToken sqlToken) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
         return Math.min(startIndex, context.getSql().length());
     }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
@@ -25,7 +25,6 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.L
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 
 import java.util.List;
-import java.util.StringJoiner;
 
 /**
  * Insert value.
@@ -38,15 +37,30 @@ public class InsertValue {
     
     @Override
     public final String toString() {
-        StringJoiner result = new StringJoiner(", ", "(", ")");
-        for (int i = 0; i < values.size(); i++) {
-            result.add(getValue(i));
-        }
+        StringBuilder result = new StringBuilder(values.size() * 4 + 2);
+        appendTo(result);
         return result.toString();
     }
     
-    private String getValue(final int index) {
-        ExpressionSegment expressionSegment = values.get(index);
+    /**
+     * Append insert value text to string builder.
+     *
+     * @param stringBuilder string builder to be appended
+     */
+    public final void appendTo(final StringBuilder stringBuilder) {
+        stringBuilder.append('(');
+        boolean first = true;
+        for (ExpressionSegment each : values) {
+            if (!first) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(getValue(each));
+            first = false;
+        }
+        stringBuilder.append(')');
+    }
+    
+    private String getValue(final ExpressionSegment expressionSegment) {
         if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
             ParameterMarkerExpressionSegment segment = (ParameterMarkerExpressionSegment) expressionSegment;
             return ParameterMarkerType.QUESTION == segment.getParameterMarkerType() ? "?" : "$" + (segment.getParameterMarkerIndex() + 1);
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,4 +48,23 @@ class DefaultSQLBuilderTest {
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    void assertToSQLWithMultipleSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(new LinkedList<>(Arrays.asList(new SQLTokenFixture(24, 25), new SQLTokenFixture(14, 16))));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE XXX=?"));
+    }
+    
+    @Test
+    void assertToSQLWithComposableSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        ComposableSQLToken composableSQLToken = new ComposableSQLToken(14, 25);
+        composableSQLToken.addSQLToken(new SQLTokenFixture(14, 16));
+        composableSQLToken.addSQLToken(new SQLTokenFixture(24, 25));
+        when(context.getSqlTokens()).thenReturn(Collections.singletonList(composableSQLToken));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE XXX=?"));
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.util.yaml;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * YAML configuration.
  */
@@ -27,6 +29,7 @@ public interface YamlConfiguration {
      * 
      * @return check whether the YAML configuration is empty or not
      */
+    @JsonIgnore
     default boolean isEmpty() {
         // TODO Only global.yaml and database.yaml handle empty YAML file currently.Other scenarios reading YAML files should also consider overriding this method to check for empty files.
         return false;
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorResultHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -38,6 +39,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Driver JDBC executor.
@@ -80,6 +82,25 @@ public final class DriverJDBCExecutor {
         }
     }
     
+    /**
+     * Execute query and handle query results in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param queryContext query context
+     * @param callback execute query callback
+     * @param resultHandler query result handler
+     * @throws SQLException SQL exception
+     */
+    public void executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final QueryContext queryContext,
+                             final ExecuteQueryCallback callback, final ExecutorResultHandler<QueryResult> resultHandler) throws SQLException {
+        try {
+            processEngine.executeSQL(executionGroupContext, queryContext);
+            jdbcExecutor.execute(executionGroupContext, null, callback, resultHandler);
+        } finally {
+            processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+        }
+    }
+    
     /**
      * Execute update.
      *
@@ -95,10 +116,9 @@ public final class DriverJDBCExecutor {
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
-            List<Integer> results = doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback);
             return isNeedAccumulate(metaDataContexts.getMetaData().getDatabase(queryContext.getDatabaseNameFromSQLStatement().orElse(databaseName)).getRuleMetaData().getRules(), sqlStatementContext)
-                    ? accumulate(results)
-                    : results.get(0);
+                    ? accumulate(executionGroupContext, sqlStatementContext, routeUnits, callback)
+                    : doExecute(executionGroupContext, sqlStatementContext, routeUnits, callback).get(0);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
@@ -114,12 +134,12 @@ public final class DriverJDBCExecutor {
         return false;
     }
     
-    private int accumulate(final List<Integer> updateResults) {
-        int result = 0;
-        for (Integer each : updateResults) {
-            result += null == each ? 0 : each;
-        }
-        return result;
+    private int accumulate(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final SQLStatementContext sqlStatementContext, final Collection<RouteUnit> routeUnits,
+                           final JDBCExecutorCallback<Integer> callback) throws SQLException {
+        AtomicInteger result = new AtomicInteger();
+        jdbcExecutor.execute(executionGroupContext, null, callback, updateResults -> updateResults.forEach(each -> result.addAndGet(null == each ? 0 : each)));
+        refreshMetaData(sqlStatementContext, routeUnits);
+        return result.get();
     }
     
     /**
@@ -146,9 +166,13 @@ public final class DriverJDBCExecutor {
     private <T> List<T> doExecute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final SQLStatementContext sqlStatementContext, final Collection<RouteUnit> routeUnits,
                                   final JDBCExecutorCallback<T> callback) throws SQLException {
         List<T> results = jdbcExecutor.execute(executionGroupContext, callback);
+        refreshMetaData(sqlStatementContext, routeUnits);
+        return results;
+    }
+    
+    private void refreshMetaData(final SQLStatementContext sqlStatementContext, final Collection<RouteUnit> routeUnits) throws SQLException {
         new MetaDataRefreshEngine(modeContextManager,
                 metaDataContexts.getMetaData().getDatabase(sqlStatementContext.getTablesContext().getDatabaseName().orElse(databaseName)), metaDataContexts.getMetaData().getProps())
                         .refresh(sqlStatementContext, routeUnits);
-        return results;
     }
 }
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -29,6 +31,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -36,9 +39,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,11 +59,12 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     private final String databaseName;
     
     public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String databaseName, final String processId) {
@@ -68,7 +72,7 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, databaseName, new Grantee("", "")));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -86,44 +90,58 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == oldBatchExecutionUnit) {
+                BatchExecutionUnit newBatchExecutionUnit = new BatchExecutionUnit(each);
+                newBatchExecutionUnit.mapAddBatchCount(batchCount);
+                batchExecutionUnits.put(each, newBatchExecutionUnit);
+            } else {
+                reviseBatchExecutionUnit(oldBatchExecutionUnit, each);
+            }
         }
-        return result;
+        batchCount++;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final ExecutionUnit newExecutionUnit) {
+        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newExecutionUnit.getSqlUnit().getParameters());
+        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
-            }
+    /**
+     * Coalesce batched single row insert values routed to same data node into multiple rows insert values.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param maxRowsPerStatement max rows of each coalesced insert statement
+     */
+    public void coalesceInsertValues(final SQLStatementContext sqlStatementContext, final int maxRowsPerStatement) {
+        if (maxRowsPerStatement < 2 || !InsertValuesCoalescer.isCoalescible(sqlStatementContext) || !isNeedAccumulate(sqlStatementContext) && batchExecutionUnits.size() > 1) {
+            return;
+        }
+        InsertValuesCoalescer coalescer = new InsertValuesCoalescer(maxRowsPerStatement);
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            coalescedBatchExecutionUnits.addAll(isSupportMultiRowInsertValues(each.getExecutionUnit().getDataSourceName()) ? coalescer.coalesce(each) : Collections.singleton(each));
         }
+        batchExecutionUnits.clear();
+        for (BatchExecutionUnit each : coalescedBatchExecutionUnits) {
+            batchExecutionUnits.put(each.getExecutionUnit(), each);
+        }
+        coalesced = true;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private boolean isSupportMultiRowInsertValues(final String dataSourceName) {
+        StorageUnit storageUnit = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName);
+        return null != storageUnit && DatabaseTypedSPILoader.getService(DialectDatabaseMetaData.class, storageUnit.getStorageType()).isSupportMultiRowInsertValues();
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -153,7 +171,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return coalesced || isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -178,24 +196,21 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult ? 0 : executeResult[entry.getValue()];
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
+        }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult ? 0 : getRowUpdateCount(executeResult[entry.getValue()], batchExecutionUnit.getRowsPerAddBatch());
             addBatchCounts[entry.getKey()] += value;
         }
     }
     
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+    private int getRowUpdateCount(final int updateCount, final int rowsPerAddBatch) {
+        if (1 == rowsPerAddBatch) {
+            return updateCount;
         }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+        return updateCount >= 0 && 0 == updateCount % rowsPerAddBatch ? updateCount / rowsPerAddBatch : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -240,12 +255,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException();
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != result);
+        return result.getParameterSets();
     }
     
     /**
@@ -255,6 +267,7 @@ public final class BatchPreparedStatementExecutor {
         getStatements().clear();
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        coalesced = false;
         batchExecutionUnits.clear();
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Insert values coalescer, which coalesces batched single row insert values routed to same data node into multiple rows insert values.
+ */
+@RequiredArgsConstructor
+public final class InsertValuesCoalescer {
+    
+    private static final String VALUES = "VALUES";
+    
+    private final int maxRowsPerStatement;
+    
+    /**
+     * Judge whether SQL statement can be coalesced.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return can be coalesced or not
+     */
+    public static boolean isCoalescible(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        return 1 == insertStatement.getValues().size() && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent()
+                && !InsertStatementHandler.getReturningSegment(insertStatement).isPresent() && !InsertStatementHandler.getOutputSegment(insertStatement).isPresent();
+    }
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * <p>SQL containing backslash is never coalesced, because whether backslash escapes quote in string literal depends on dialect and SQL mode.</p>
+     *
+     * @param batchExecutionUnit batch execution unit to be coalesced
+     * @return coalesced batch execution units, or the original batch execution unit if it can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        int rows = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        if (maxRowsPerStatement < 2 || rows < 2 || 1 != batchExecutionUnit.getRowsPerAddBatch()) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        String sql = sqlUnit.getSql().trim();
+        if (sql.indexOf('\\') >= 0) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        int rowStartIndex = findLastRowStartIndex(sql);
+        if (rowStartIndex < 0) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        String prefix = sql.substring(0, rowStartIndex);
+        String row = sql.substring(rowStartIndex);
+        List<Object> params = sqlUnit.getParameters();
+        if (!prefix.trim().toUpperCase().endsWith(VALUES) || prefix.indexOf('?') >= 0 || 0 != params.size() % rows || countParameterMarkers(row) != params.size() / rows) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        int paramsPerRow = params.size() / rows;
+        int rowsPerStatement = Math.min(maxRowsPerStatement, rows);
+        int coalescedRows = rows / rowsPerStatement * rowsPerStatement;
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet());
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        result.add(createBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), prefix, row, rowsPerStatement,
+                params.subList(0, coalescedRows * paramsPerRow), jdbcAddBatchTimes.subList(0, coalescedRows)));
+        if (coalescedRows < rows) {
+            result.add(createBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), prefix, row, rows - coalescedRows,
+                    params.subList(coalescedRows * paramsPerRow, params.size()), jdbcAddBatchTimes.subList(coalescedRows, rows)));
+        }
+        return result;
+    }
+    
+    private int findLastRowStartIndex(final String sql) {
+        if (!sql.endsWith(")")) {
+            return -1;
+        }
+        int depth = 0;
+        int index = sql.length() - 1;
+        while (index >= 0) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                index = sql.lastIndexOf('\'', index - 1);
+                if (index < 0) {
+                    return -1;
+                }
+            } else if (')' == each) {
+                depth++;
+            } else if ('(' == each) {
+                depth--;
+                if (0 == depth) {
+                    return index;
+                }
+            }
+            index--;
+        }
+        return -1;
+    }
+    
+    private int countParameterMarkers(final String row) {
+        int result = 0;
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char each = row.charAt(i);
+            if ('\'' == each) {
+                quoted = !quoted;
+            } else if ('?' == each && !quoted) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final ExecutionUnit executionUnit, final String prefix, final String row, final int rowsPerStatement,
+                                                        final List<Object> params, final List<Integer> jdbcAddBatchTimes) {
+        StringBuilder sql = new StringBuilder(prefix.length() + (row.length() + 2) * rowsPerStatement).append(prefix).append(row);
+        for (int i = 1; i < rowsPerStatement; i++) {
+            sql.append(", ").append(row);
+        }
+        SQLUnit sqlUnit = new SQLUnit(sql.toString(), new ArrayList<>(params), executionUnit.getSqlUnit().getTableRouteMappers());
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), rowsPerStatement);
+        for (int each : jdbcAddBatchTimes) {
+            result.mapAddBatchCount(each);
+        }
+        return result;
+    }
+}
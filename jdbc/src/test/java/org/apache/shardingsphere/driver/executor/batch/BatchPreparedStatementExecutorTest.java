@@ -21,6 +21,8 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -31,13 +33,17 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.traffic.rule.builder.DefaultTrafficRuleConfigurationBuilder;
 import org.apache.shardingsphere.transaction.api.TransactionType;
@@ -55,11 +61,16 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -79,6 +90,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id) VALUES (?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(Runtime.getRuntime().availableProcessors() * 2 - 1);
     
     private BatchPreparedStatementExecutor executor;
@@ -109,6 +122,9 @@ class BatchPreparedStatementExecutorTest {
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         RuleMetaData databaseRuleMetaData = new RuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getMetaData().getDatabase("foo_db").getRuleMetaData()).thenReturn(databaseRuleMetaData);
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(result.getMetaData().getDatabase("foo_db").getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", storageUnit));
         return result;
     }
     
@@ -168,6 +184,101 @@ class BatchPreparedStatementExecutorTest {
         verify(preparedStatement).executeBatch();
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1)))),
+                new ExecutionUnit("ds_1", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit firstBatchExecutionUnit = actual.next();
+        assertThat(firstBatchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(firstBatchExecutionUnit.getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(firstBatchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size(), is(2));
+        BatchExecutionUnit secondBatchExecutionUnit = actual.next();
+        assertThat(secondBatchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(secondBatchExecutionUnit.getParameterSets(), is(Collections.singletonList(Collections.singletonList(1))));
+    }
+    
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        InsertStatementContext insertStatementContext = createInsertStatementContext();
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        executor.coalesceInsertValues(insertStatementContext, 10);
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        BatchExecutionUnit actual = executor.getBatchExecutionUnits().iterator().next();
+        assertThat(actual.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order (order_id) VALUES (?), (?), (?)"));
+        assertThat(actual.getRowsPerAddBatch(), is(3));
+        assertThat(actual.getParameterSets(), is(Collections.singletonList(Arrays.asList(0, 1, 2))));
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{3});
+        initExecutionGroups(Collections.singletonMap(preparedStatement, actual.getExecutionUnit()));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1}));
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValuesInMultipleStatements() throws SQLException {
+        InsertStatementContext insertStatementContext = createInsertStatementContext();
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        executor.coalesceInsertValues(insertStatementContext, 2);
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> batchExecutionUnits = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit coalescedBatchExecutionUnit = batchExecutionUnits.next();
+        assertThat(coalescedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order (order_id) VALUES (?), (?)"));
+        BatchExecutionUnit remainedBatchExecutionUnit = batchExecutionUnits.next();
+        assertThat(remainedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        when(preparedStatement2.executeBatch()).thenReturn(new int[]{1});
+        Map<PreparedStatement, ExecutionUnit> executionUnits = new LinkedHashMap<>();
+        executionUnits.put(preparedStatement1, coalescedBatchExecutionUnit.getExecutionUnit());
+        executionUnits.put(preparedStatement2, remainedBatchExecutionUnit.getExecutionUnit());
+        initExecutionGroups(executionUnits);
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
+    @Test
+    void assertExecuteBatchWithoutCoalescingInsertValuesContainingBackslash() throws SQLException {
+        InsertStatementContext insertStatementContext = createInsertStatementContext();
+        String sql = "INSERT INTO t_order (order_id, status) VALUES (?, 'it\\'s')";
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(sql, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        executor.coalesceInsertValues(insertStatementContext, 10);
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        BatchExecutionUnit actual = executor.getBatchExecutionUnits().iterator().next();
+        assertThat(actual.getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        assertThat(actual.getRowsPerAddBatch(), is(1));
+        assertThat(actual.getParameterSets(), is(Arrays.asList(Collections.singletonList(0), Collections.singletonList(1), Collections.singletonList(2))));
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1, 1});
+        initExecutionGroups(Collections.singletonMap(preparedStatement, actual.getExecutionUnit()));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
+    private InsertStatementContext createInsertStatementContext() {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.emptyList()));
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        return result;
+    }
+    
+    private void initExecutionGroups(final Map<PreparedStatement, ExecutionUnit> executionUnits) {
+        List<JDBCExecutionUnit> inputs = new LinkedList<>();
+        for (Entry<PreparedStatement, ExecutionUnit> entry : executionUnits.entrySet()) {
+            inputs.add(new JDBCExecutionUnit(entry.getValue(), ConnectionMode.MEMORY_STRICTLY, entry.getKey()));
+        }
+        String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
+        executor.init(new ExecutionGroupContext<>(new LinkedList<>(Collections.singleton(new ExecutionGroup<>(inputs))), new ExecutionGroupReportContext(processId, "foo_db", new Grantee("", ""))));
+    }
+    
     @Test
     void assertExecuteBatchForMultiplePreparedStatementsFailure() throws SQLException {
         PreparedStatement preparedStatement1 = getPreparedStatement();
@@ -188,19 +299,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext(processId, "logic_db", new Grantee("", ""))));
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, 'a(b)?')";
+    
+    @Test
+    void assertIsCoalescible() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.emptyList()));
+        when(sqlStatementContext.getSqlStatement()).thenReturn(insertStatement);
+        assertTrue(InsertValuesCoalescer.isCoalescible(sqlStatementContext));
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithoutInsertValues() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLInsertStatement());
+        assertFalse(InsertValuesCoalescer.isCoalescible(sqlStatementContext));
+        assertFalse(InsertValuesCoalescer.isCoalescible(mock(SQLStatementContext.class)));
+    }
+    
+    @Test
+    void assertCoalesce() {
+        Collection<BatchExecutionUnit> actual = new InsertValuesCoalescer(2).coalesce(createBatchExecutionUnit(SQL, 3));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit coalescedBatchExecutionUnit = iterator.next();
+        assertThat(coalescedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'a(b)?'), (?, 'a(b)?')"));
+        assertThat(coalescedBatchExecutionUnit.getRowsPerAddBatch(), is(2));
+        assertThat(coalescedBatchExecutionUnit.getParameterSets(), is(Collections.singletonList(Arrays.asList(0, 1))));
+        assertThat(coalescedBatchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(coalescedBatchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        BatchExecutionUnit remainedBatchExecutionUnit = iterator.next();
+        assertThat(remainedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(remainedBatchExecutionUnit.getRowsPerAddBatch(), is(1));
+        assertThat(remainedBatchExecutionUnit.getParameterSets(), is(Collections.singletonList(Collections.singletonList(2))));
+        assertThat(remainedBatchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+    }
+    
+    @Test
+    void assertCoalesceWithUnmatchedParameters() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) SELECT ?, status FROM t_order_1 WHERE order_id IN (?)", 2);
+        assertThat(new InsertValuesCoalescer(10).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    @Test
+    void assertCoalesceWithBackslashEscapedQuote() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'it\\'s', 'ok')", 2);
+        assertThat(new InsertValuesCoalescer(10).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    @Test
+    void assertCoalesceWithSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(SQL, 1);
+        assertThat(new InsertValuesCoalescer(10).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rows) {
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, new ArrayList<>())));
+        for (int i = 0; i < rows; i++) {
+            result.getExecutionUnit().getSqlUnit().getParameters().add(i);
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
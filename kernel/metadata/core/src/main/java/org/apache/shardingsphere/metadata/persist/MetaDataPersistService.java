@@ -19,6 +19,7 @@ package org.apache.shardingsphere.metadata.persist;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.decorator.RuleConfigurationDecorator;
 import org.apache.shardingsphere.infra.datasource.pool.config.DataSourceConfiguration;
@@ -71,11 +72,15 @@ public final class MetaDataPersistService implements MetaDataBasedPersistService
     private final ShardingSphereDataPersistService shardingSphereDataPersistService;
     
     public MetaDataPersistService(final PersistRepository repository) {
+        this(repository, new ConfigurationProperties(new Properties()));
+    }
+    
+    public MetaDataPersistService(final PersistRepository repository, final ConfigurationProperties props) {
         this.repository = repository;
         metaDataVersionPersistService = new MetaDataVersionPersistService(repository);
         dataSourceUnitService = new DataSourceUnitPersistService(repository);
         dataSourceNodeService = new DataSourceNodePersistService(repository);
-        databaseMetaDataService = new DatabaseMetaDataPersistService(repository, metaDataVersionPersistService);
+        databaseMetaDataService = new DatabaseMetaDataPersistService(repository, metaDataVersionPersistService, props);
         databaseRulePersistService = new DatabaseRulePersistService(repository);
         globalRuleService = new GlobalRulePersistService(repository);
         propsService = new PropertiesPersistService(repository);
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.metadata.persist.service.database;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.metadata.persist.service.schema.SchemaMetaDataSnapshot;
 import org.apache.shardingsphere.metadata.persist.service.schema.TableMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.schema.ViewMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
@@ -45,10 +48,14 @@ public final class DatabaseMetaDataPersistService implements DatabaseMetaDataBas
     
     private final MetaDataVersionPersistService metaDataVersionPersistService;
     
-    public DatabaseMetaDataPersistService(final PersistRepository repository, final MetaDataVersionPersistService metaDataVersionPersistService) {
+    private final SchemaMetaDataSnapshot schemaMetaDataSnapshot;
+    
+    public DatabaseMetaDataPersistService(final PersistRepository repository, final MetaDataVersionPersistService metaDataVersionPersistService, final ConfigurationProperties props) {
         this.repository = repository;
-        this.tableMetaDataPersistService = new TableMetaDataPersistService(repository);
-        this.viewMetaDataPersistService = new ViewMetaDataPersistService(repository);
+        schemaMetaDataSnapshot = new SchemaMetaDataSnapshot(props.getValue(ConfigurationPropertyKey.SCHEMA_META_DATA_SNAPSHOT_FILE));
+        boolean jsonPersistEnabled = props.getValue(ConfigurationPropertyKey.SCHEMA_META_DATA_JSON_PERSIST_ENABLED);
+        this.tableMetaDataPersistService = new TableMetaDataPersistService(repository, jsonPersistEnabled, schemaMetaDataSnapshot);
+        this.viewMetaDataPersistService = new ViewMetaDataPersistService(repository, jsonPersistEnabled, schemaMetaDataSnapshot);
         this.metaDataVersionPersistService = metaDataVersionPersistService;
     }
     
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Strings;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema meta data snapshot, which keeps persisted contents of versioned schema meta data nodes in a local file.
+ *
+ * <p>Each entry keeps the revision of its node in registry. Revisions of requested nodes are read from registry in one batch,
+ * an entry is used only when its revision is still the same, so a node recreated with same version is never served from snapshot.
+ * If repository does not support revisions, all contents are loaded from repository.</p>
+ */
+@Slf4j
+public final class SchemaMetaDataSnapshot {
+    
+    private final Path file;
+    
+    private volatile Map<String, SnapshotEntry> loadedEntries;
+    
+    private final Map<String, SnapshotEntry> usedEntries = new ConcurrentHashMap<>();
+    
+    private volatile boolean flushed;
+    
+    public SchemaMetaDataSnapshot(final String file) {
+        this.file = Strings.isNullOrEmpty(file) ? null : Paths.get(file);
+        loadedEntries = null == this.file ? Collections.emptyMap() : load(this.file);
+    }
+    
+    private Map<String, SnapshotEntry> load(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return JsonUtils.fromJsonString(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), new TypeReference<Map<String, SnapshotEntry>>() {
+            });
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Ignore unreadable schema meta data snapshot `{}`.", file, ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    /**
+     * Judge whether snapshot is enabled.
+     *
+     * @return snapshot is enabled or not
+     */
+    public boolean isEnabled() {
+        return null != file;
+    }
+    
+    /**
+     * Load contents of versioned nodes, contents absent in snapshot or whose revisions changed are loaded from repository.
+     *
+     * @param repository persist repository
+     * @param versionNodes versioned nodes
+     * @return contents, key is versioned node and value is content
+     */
+    public Map<String, String> loadContents(final PersistRepository repository, final Collection<String> versionNodes) {
+        if (!isEnabled()) {
+            return repository.getDirectlyInBatch(versionNodes);
+        }
+        Map<String, SnapshotEntry> entries = loadedEntries;
+        Map<String, String> revisions = repository.getRevisionsInBatch(versionNodes);
+        Map<String, String> result = new HashMap<>(versionNodes.size(), 1F);
+        Collection<String> missedVersionNodes = new LinkedList<>();
+        for (String each : versionNodes) {
+            SnapshotEntry entry = entries.get(each);
+            String revision = revisions.get(each);
+            if (null != entry && null != revision && revision.equals(entry.getRevision())) {
+                result.put(each, entry.getContent());
+                recordUsedEntry(each, entry);
+            } else {
+                missedVersionNodes.add(each);
+            }
+        }
+        if (!missedVersionNodes.isEmpty()) {
+            Map<String, String> contents = repository.getDirectlyInBatch(missedVersionNodes);
+            contents.forEach((key, value) -> {
+                String revision = revisions.get(key);
+                if (null != revision) {
+                    recordUsedEntry(key, new SnapshotEntry(revision, value));
+                }
+            });
+            result.putAll(contents);
+        }
+        return result;
+    }
+    
+    private void recordUsedEntry(final String versionNode, final SnapshotEntry entry) {
+        if (!flushed) {
+            usedEntries.put(versionNode, entry);
+        }
+    }
+    
+    /**
+     * Write entries used since snapshot loaded to snapshot file, entries of inactive versions are dropped.
+     *
+     * <p>Snapshot is flushed only once, entries loaded from snapshot file are released and entries are not recorded any more after flushed.</p>
+     */
+    public void flush() {
+        if (!isEnabled() || flushed) {
+            return;
+        }
+        flushed = true;
+        loadedEntries = Collections.emptyMap();
+        Map<String, SnapshotEntry> entries = new TreeMap<>(usedEntries);
+        usedEntries.clear();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (null != parent) {
+                Files.createDirectories(parent);
+            }
+            Path tempFile = Files.createTempFile(null == parent ? Paths.get(".") : parent, file.getFileName().toString(), ".tmp");
+            Files.write(tempFile, JsonUtils.toJsonString(entries).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Write schema meta data snapshot `{}` failed.", file, ex);
+        }
+    }
+    
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static final class SnapshotEntry {
+        
+        private String revision;
+        
+        private String content;
+    }
+}
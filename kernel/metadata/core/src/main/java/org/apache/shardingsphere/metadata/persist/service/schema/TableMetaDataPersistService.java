@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.metadata.persist.service.schema;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
@@ -34,6 +36,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * Table meta data persist service.
@@ -45,6 +48,10 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     private final PersistRepository repository;
     
+    private final boolean jsonPersistEnabled;
+    
+    private final SchemaMetaDataSnapshot snapshot;
+    
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
         for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
@@ -52,7 +59,7 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
             List<String> versions = repository.getChildrenKeys(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
             repository.persist(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, versions.isEmpty()
                     ? DEFAULT_VERSION
-                    : String.valueOf(Integer.parseInt(versions.get(0)) + 1)), YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
+                    : String.valueOf(Integer.parseInt(versions.get(0)) + 1)), marshal(entry.getValue()));
             if (Strings.isNullOrEmpty(repository.getDirectly(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName)))) {
                 repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), DEFAULT_VERSION);
             }
@@ -67,7 +74,7 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
             List<String> versions = repository.getChildrenKeys(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
             String nextActiveVersion = versions.isEmpty() ? DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
             repository.persist(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
-                    YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
+                    marshal(entry.getValue()));
             if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
                 repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), DEFAULT_VERSION);
             }
@@ -92,15 +99,30 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     }
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
-        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.getDirectly(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+        Map<String, String> activeVersionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        tableNames.forEach(each -> activeVersionNodes.put(each, TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each)));
+        Map<String, String> activeVersions = repository.getDirectlyInBatch(activeVersionNodes.values());
+        Map<String, String> versionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        activeVersionNodes.forEach((key, value) -> {
+            String activeVersion = activeVersions.get(value);
+            if (!Strings.isNullOrEmpty(activeVersion)) {
+                versionNodes.put(key, TableMetaDataNode.getTableVersionNode(databaseName, schemaName, key, activeVersion));
             }
         });
-        return result;
+        Map<String, String> tables = snapshot.loadContents(repository, versionNodes.values());
+        return versionNodes.entrySet().parallelStream().filter(each -> !Strings.isNullOrEmpty(tables.get(each.getValue())))
+                .collect(Collectors.toMap(each -> each.getKey().toLowerCase(), each -> swapToObject(tables.get(each.getValue())), (oldValue, currentValue) -> currentValue, LinkedHashMap::new));
+    }
+    
+    private String marshal(final ShardingSphereTable table) {
+        YamlShardingSphereTable yamlTable = new YamlTableSwapper().swapToYamlConfiguration(table);
+        return jsonPersistEnabled ? JsonUtils.toJsonString(yamlTable) : YamlEngine.marshal(yamlTable);
+    }
+    
+    private ShardingSphereTable swapToObject(final String content) {
+        YamlShardingSphereTable yamlTable = content.startsWith("{") ? JsonUtils.fromJsonString(content, new TypeReference<YamlShardingSphereTable>() {
+        }) : YamlEngine.unmarshal(content, YamlShardingSphereTable.class);
+        return new YamlTableSwapper().swapToObject(yamlTable);
     }
     
     @Override
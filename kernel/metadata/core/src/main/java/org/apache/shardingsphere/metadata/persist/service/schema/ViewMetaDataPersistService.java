@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.metadata.persist.service.schema;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereView;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlViewSwapper;
@@ -34,6 +36,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * View meta data persist service.
@@ -45,6 +48,10 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     
     private final PersistRepository repository;
     
+    private final boolean jsonPersistEnabled;
+    
+    private final SchemaMetaDataSnapshot snapshot;
+    
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereView> views) {
         for (Entry<String, ShardingSphereView> entry : views.entrySet()) {
@@ -52,7 +59,7 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
             List<String> versions = repository.getChildrenKeys(ViewMetaDataNode.getViewVersionsNode(databaseName, schemaName, viewName));
             repository.persist(ViewMetaDataNode.getViewVersionNode(databaseName, schemaName, viewName, versions.isEmpty()
                     ? DEFAULT_VERSION
-                    : String.valueOf(Integer.parseInt(versions.get(0)) + 1)), YamlEngine.marshal(new YamlViewSwapper().swapToYamlConfiguration(entry.getValue())));
+                    : String.valueOf(Integer.parseInt(versions.get(0)) + 1)), marshal(entry.getValue()));
             if (Strings.isNullOrEmpty(repository.getDirectly(ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, viewName)))) {
                 repository.persist(ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, viewName), DEFAULT_VERSION);
             }
@@ -67,7 +74,7 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
             List<String> versions = repository.getChildrenKeys(ViewMetaDataNode.getViewVersionsNode(databaseName, schemaName, viewName));
             String nextActiveVersion = versions.isEmpty() ? DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
             repository.persist(ViewMetaDataNode.getViewVersionNode(databaseName, schemaName, viewName, nextActiveVersion),
-                    YamlEngine.marshal(new YamlViewSwapper().swapToYamlConfiguration(entry.getValue())));
+                    marshal(entry.getValue()));
             if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, viewName))) {
                 repository.persist(ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, viewName), DEFAULT_VERSION);
             }
@@ -92,15 +99,30 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     }
     
     private Map<String, ShardingSphereView> getViewMetaDataByViewNames(final String databaseName, final String schemaName, final Collection<String> viewNames) {
-        Map<String, ShardingSphereView> result = new LinkedHashMap<>(viewNames.size(), 1F);
-        viewNames.forEach(each -> {
-            String view = repository.getDirectly(ViewMetaDataNode.getViewVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each))));
-            if (!Strings.isNullOrEmpty(view)) {
-                result.put(each.toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(view, YamlShardingSphereView.class)));
+        Map<String, String> activeVersionNodes = new LinkedHashMap<>(viewNames.size(), 1F);
+        viewNames.forEach(each -> activeVersionNodes.put(each, ViewMetaDataNode.getViewActiveVersionNode(databaseName, schemaName, each)));
+        Map<String, String> activeVersions = repository.getDirectlyInBatch(activeVersionNodes.values());
+        Map<String, String> versionNodes = new LinkedHashMap<>(viewNames.size(), 1F);
+        activeVersionNodes.forEach((key, value) -> {
+            String activeVersion = activeVersions.get(value);
+            if (!Strings.isNullOrEmpty(activeVersion)) {
+                versionNodes.put(key, ViewMetaDataNode.getViewVersionNode(databaseName, schemaName, key, activeVersion));
             }
         });
-        return result;
+        Map<String, String> views = snapshot.loadContents(repository, versionNodes.values());
+        return versionNodes.entrySet().parallelStream().filter(each -> !Strings.isNullOrEmpty(views.get(each.getValue())))
+                .collect(Collectors.toMap(each -> each.getKey().toLowerCase(), each -> swapToObject(views.get(each.getValue())), (oldValue, currentValue) -> currentValue, LinkedHashMap::new));
+    }
+    
+    private String marshal(final ShardingSphereView view) {
+        YamlShardingSphereView yamlView = new YamlViewSwapper().swapToYamlConfiguration(view);
+        return jsonPersistEnabled ? JsonUtils.toJsonString(yamlView) : YamlEngine.marshal(yamlView);
+    }
+    
+    private ShardingSphereView swapToObject(final String content) {
+        YamlShardingSphereView yamlView = content.startsWith("{") ? JsonUtils.fromJsonString(content, new TypeReference<YamlShardingSphereView>() {
+        }) : YamlEngine.unmarshal(content, YamlShardingSphereView.class);
+        return new YamlViewSwapper().swapToObject(yamlView);
     }
     
     @Override
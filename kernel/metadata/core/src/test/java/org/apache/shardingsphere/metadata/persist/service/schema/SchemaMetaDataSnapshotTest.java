@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchemaMetaDataSnapshotTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertLoadContentsWithoutSnapshot() {
+        PersistRepository repository = mock(PersistRepository.class);
+        when(repository.getDirectlyInBatch(Collections.singletonList("/foo/versions/0"))).thenReturn(Collections.singletonMap("/foo/versions/0", "foo_content"));
+        SchemaMetaDataSnapshot snapshot = new SchemaMetaDataSnapshot("");
+        assertFalse(snapshot.isEnabled());
+        assertThat(snapshot.loadContents(repository, Collections.singletonList("/foo/versions/0")).get("/foo/versions/0"), is("foo_content"));
+    }
+    
+    @Test
+    void assertLoadContentsFromFlushedSnapshot() {
+        String file = createFlushedSnapshot();
+        PersistRepository restartedRepository = mock(PersistRepository.class);
+        when(restartedRepository.getRevisionsInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/2"))).thenReturn(createRevisions("/bar/versions/2", "12"));
+        when(restartedRepository.getDirectlyInBatch(Collections.singletonList("/bar/versions/2"))).thenReturn(Collections.singletonMap("/bar/versions/2", "new_bar_content"));
+        Map<String, String> actual = new SchemaMetaDataSnapshot(file).loadContents(restartedRepository, Arrays.asList("/foo/versions/0", "/bar/versions/2"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("/foo/versions/0"), is("foo_content"));
+        assertThat(actual.get("/bar/versions/2"), is("new_bar_content"));
+        verify(restartedRepository, never()).getDirectlyInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/2"));
+    }
+    
+    @Test
+    void assertLoadContentsOfRecreatedNodeFromRepository() {
+        String file = createFlushedSnapshot();
+        PersistRepository restartedRepository = mock(PersistRepository.class);
+        when(restartedRepository.getRevisionsInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/1"))).thenReturn(createRevisions("/bar/versions/1", "20"));
+        when(restartedRepository.getDirectlyInBatch(Collections.singletonList("/bar/versions/1"))).thenReturn(Collections.singletonMap("/bar/versions/1", "recreated_bar_content"));
+        Map<String, String> actual = new SchemaMetaDataSnapshot(file).loadContents(restartedRepository, Arrays.asList("/foo/versions/0", "/bar/versions/1"));
+        assertThat(actual.get("/foo/versions/0"), is("foo_content"));
+        assertThat(actual.get("/bar/versions/1"), is("recreated_bar_content"));
+    }
+    
+    @Test
+    void assertLoadContentsWithoutRevisions() {
+        String file = createFlushedSnapshot();
+        PersistRepository restartedRepository = mock(PersistRepository.class);
+        when(restartedRepository.getRevisionsInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/1"))).thenReturn(Collections.emptyMap());
+        when(restartedRepository.getDirectlyInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/1"))).thenReturn(createContents("new_foo_content", "new_bar_content"));
+        Map<String, String> actual = new SchemaMetaDataSnapshot(file).loadContents(restartedRepository, Arrays.asList("/foo/versions/0", "/bar/versions/1"));
+        assertThat(actual.get("/foo/versions/0"), is("new_foo_content"));
+        assertThat(actual.get("/bar/versions/1"), is("new_bar_content"));
+    }
+    
+    @Test
+    void assertLoadContentsAfterFlushed() {
+        String file = createFlushedSnapshot();
+        PersistRepository restartedRepository = mock(PersistRepository.class);
+        when(restartedRepository.getRevisionsInBatch(Collections.singletonList("/foo/versions/0"))).thenReturn(Collections.singletonMap("/foo/versions/0", "10"));
+        when(restartedRepository.getDirectlyInBatch(Collections.singletonList("/foo/versions/0"))).thenReturn(Collections.singletonMap("/foo/versions/0", "new_foo_content"));
+        SchemaMetaDataSnapshot snapshot = new SchemaMetaDataSnapshot(file);
+        snapshot.flush();
+        assertThat(snapshot.loadContents(restartedRepository, Collections.singletonList("/foo/versions/0")).get("/foo/versions/0"), is("new_foo_content"));
+    }
+    
+    private String createFlushedSnapshot() {
+        String result = tempDir.resolve("snapshot").resolve("meta_data.json").toString();
+        PersistRepository repository = mock(PersistRepository.class);
+        when(repository.getRevisionsInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/1"))).thenReturn(createRevisions("/bar/versions/1", "11"));
+        when(repository.getDirectlyInBatch(Arrays.asList("/foo/versions/0", "/bar/versions/1"))).thenReturn(createContents("foo_content", "bar_content"));
+        SchemaMetaDataSnapshot snapshot = new SchemaMetaDataSnapshot(result);
+        assertTrue(snapshot.isEnabled());
+        snapshot.loadContents(repository, Arrays.asList("/foo/versions/0", "/bar/versions/1"));
+        snapshot.flush();
+        return result;
+    }
+    
+    private Map<String, String> createRevisions(final String barVersionNode, final String barRevision) {
+        Map<String, String> result = new LinkedHashMap<>(2, 1F);
+        result.put("/foo/versions/0", "10");
+        result.put(barVersionNode, barRevision);
+        return result;
+    }
+    
+    private Map<String, String> createContents(final String fooContent, final String barContent) {
+        Map<String, String> result = new LinkedHashMap<>(2, 1F);
+        result.put("/foo/versions/0", fooContent);
+        result.put("/bar/versions/1", barContent);
+        return result;
+    }
+}
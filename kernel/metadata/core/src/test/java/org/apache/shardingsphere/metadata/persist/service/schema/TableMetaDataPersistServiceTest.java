@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.metadata.persist.node.metadata.TableMetaDataNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TableMetaDataPersistServiceTest {
+    
+    private final Map<String, String> persistedData = new HashMap<>();
+    
+    private final PersistRepository repository = mock(PersistRepository.class);
+    
+    @BeforeEach
+    void setUp() {
+        when(repository.getDirectly(anyString())).thenAnswer(invocation -> persistedData.get(invocation.<String>getArgument(0)));
+        when(repository.getDirectlyInBatch(any())).thenCallRealMethod();
+        doAnswer(invocation -> persistedData.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertPersistAndLoadWithJson() {
+        new TableMetaDataPersistService(repository, true, new SchemaMetaDataSnapshot("")).persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", createTable()));
+        String actual = persistedData.get(TableMetaDataNode.getTableVersionNode("foo_db", "foo_schema", "foo_tbl", "0"));
+        assertTrue(actual.startsWith("{"));
+        assertThat(YamlEngine.unmarshal(actual, YamlShardingSphereTable.class).getColumns().size(), is(1));
+        assertTable(new TableMetaDataPersistService(repository, false, new SchemaMetaDataSnapshot("")).load("foo_db", "foo_schema", "foo_tbl"));
+    }
+    
+    @Test
+    void assertPersistAndLoadWithYaml() {
+        new TableMetaDataPersistService(repository, false, new SchemaMetaDataSnapshot("")).persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", createTable()));
+        assertFalse(persistedData.get(TableMetaDataNode.getTableVersionNode("foo_db", "foo_schema", "foo_tbl", "0")).startsWith("{"));
+        assertTable(new TableMetaDataPersistService(repository, true, new SchemaMetaDataSnapshot("")).load("foo_db", "foo_schema", "foo_tbl"));
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("foo_tbl", Collections.singletonList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private void assertTable(final Map<String, ShardingSphereTable> actual) {
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_tbl").getName(), is("foo_tbl"));
+        assertThat(actual.get("foo_tbl").getColumn("id"), is(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false)));
+    }
+}
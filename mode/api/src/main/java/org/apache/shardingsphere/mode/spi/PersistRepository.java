@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +43,35 @@ public interface PersistRepository extends TypedSPI {
      */
     String getDirectly(String key);
     
+    /**
+     * Get values from registry center directly in batch.
+     *
+     * @param keys keys
+     * @return map of key and value, keys which are not existed are excluded
+     */
+    default Map<String, String> getDirectlyInBatch(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = getDirectly(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get revisions of values from registry center directly in batch.
+     *
+     * <p>Revision of a key changes whenever its value is written, and differs after the key is deleted and created again.</p>
+     *
+     * @param keys keys
+     * @return map of key and revision, keys which are not existed or whose revisions are not supported by repository are excluded
+     */
+    default Map<String, String> getRevisionsInBatch(final Collection<String> keys) {
+        return Collections.emptyMap();
+    }
+    
     /**
      * Get names of sub-node.
      *
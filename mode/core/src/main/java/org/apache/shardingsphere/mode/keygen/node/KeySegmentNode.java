@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.keygen.node;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Key segment node.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeySegmentNode {
+    
+    private static final String ROOT_NODE = "key_segments";
+    
+    /**
+     * Get key segment path.
+     *
+     * @param keyName key name
+     * @return key segment path
+     */
+    public static String getKeySegmentPath(final String keyName) {
+        return String.join("/", "", ROOT_NODE, keyName);
+    }
+}
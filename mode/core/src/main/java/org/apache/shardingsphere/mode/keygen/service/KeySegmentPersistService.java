@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.keygen.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.keygen.node.KeySegmentNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+/**
+ * Key segment persist service.
+ */
+@RequiredArgsConstructor
+public final class KeySegmentPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Allocate key segment.
+     * 
+     * <p>Caller should guarantee exclusive access to the key.</p>
+     *
+     * @param keyName key name
+     * @param segmentSize segment size
+     * @return first key of allocated segment
+     */
+    public long allocate(final String keyName, final long segmentSize) {
+        String path = KeySegmentNode.getKeySegmentPath(keyName);
+        String lastAllocatedKey = repository.getDirectly(path);
+        long result = Strings.isNullOrEmpty(lastAllocatedKey) ? 1L : Long.parseLong(lastAllocatedKey) + 1L;
+        repository.persist(path, String.valueOf(result + segmentSize - 1L));
+        return result;
+    }
+}
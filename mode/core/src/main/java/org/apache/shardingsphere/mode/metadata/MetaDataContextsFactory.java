@@ -99,7 +99,9 @@ public final class MetaDataContextsFactory {
         ResourceMetaData globalResourceMetaData = new ResourceMetaData(globalDataSources);
         RuleMetaData globalRuleMetaData = new RuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, databases, props));
         MetaDataContexts result = new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalResourceMetaData, globalRuleMetaData, props));
-        if (!isDatabaseMetaDataExisted) {
+        if (isDatabaseMetaDataExisted) {
+            persistService.getDatabaseMetaDataService().getSchemaMetaDataSnapshot().flush();
+        } else {
             persistDatabaseConfigurations(result, param);
             persistMetaData(result);
         }
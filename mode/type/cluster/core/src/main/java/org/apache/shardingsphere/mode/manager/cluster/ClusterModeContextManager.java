@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.manager.cluster;
 
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.instance.mode.ModeContextManager;
+import org.apache.shardingsphere.infra.lock.GlobalLockNames;
+import org.apache.shardingsphere.infra.lock.LockContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
@@ -30,8 +33,11 @@ import org.apache.shardingsphere.metadata.persist.service.config.database.Databa
 import org.apache.shardingsphere.metadata.persist.service.config.global.GlobalPersistService;
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataBasedPersistService;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionBasedPersistService;
+import org.apache.shardingsphere.mode.keygen.service.KeySegmentPersistService;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerAware;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keygen.exception.KeySegmentAllocatedException;
 import org.apache.shardingsphere.single.api.config.SingleRuleConfiguration;
 
 import java.util.Collection;
@@ -46,6 +52,8 @@ import java.util.stream.Collectors;
  */
 public final class ClusterModeContextManager implements ModeContextManager, ContextManagerAware {
     
+    private static final long KEY_SEGMENT_LOCK_TIMEOUT_MILLIS = 3000L;
+    
     private ContextManager contextManager;
     
     @Override
@@ -165,6 +173,19 @@ public final class ClusterModeContextManager implements ModeContextManager, Cont
         contextManager.getMetaDataContexts().getPersistService().getMetaDataVersionPersistService().switchActiveVersion(versions);
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public long allocateKeySegment(final String keyName, final long segmentSize) {
+        LockContext lockContext = contextManager.getInstanceContext().getLockContext();
+        GlobalLockDefinition lockDefinition = new GlobalLockDefinition(String.format(GlobalLockNames.KEY_SEGMENT.getLockName(), keyName));
+        ShardingSpherePreconditions.checkState(lockContext.tryLock(lockDefinition, KEY_SEGMENT_LOCK_TIMEOUT_MILLIS), () -> new KeySegmentAllocatedException(keyName));
+        try {
+            return new KeySegmentPersistService(contextManager.getMetaDataContexts().getPersistService().getRepository()).allocate(keyName, segmentSize);
+        } finally {
+            lockContext.unlock(lockDefinition);
+        }
+    }
+    
     @Override
     public void setContextManagerAware(final ContextManager contextManager) {
         this.contextManager = contextManager;
@@ -47,9 +47,11 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -141,6 +143,17 @@ class EtcdRepositoryTest {
         verify(getResponse).getKvs();
     }
     
+    @Test
+    void assertGetDirectlyInBatch() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/key1")).setValue(ByteString.copyFromUtf8("value1")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)));
+        Map<String, String> actual = repository.getDirectlyInBatch(Arrays.asList("/key1", "/key2"));
+        verify(kv).get(ByteSequence.from("/key1", StandardCharsets.UTF_8));
+        verify(kv).get(ByteSequence.from("/key2", StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("/key1"), is("value1"));
+    }
+    
     @Test
     void assertGetChildrenKeys() {
         io.etcd.jetcd.api.KeyValue keyValue1 = io.etcd.jetcd.api.KeyValue.newBuilder()
@@ -23,6 +23,9 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.framework.api.Pathable;
 import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -46,25 +49,32 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Registry repository of ZooKeeper.
  */
 public final class ZookeeperRepository implements ClusterPersistRepository, InstanceContextAware, NodePathTransactionAware {
     
+    private static final int DEFAULT_BATCH_TIMEOUT_MILLISECONDS = 60000;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -74,10 +84,14 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
+    private int batchTimeoutMilliseconds;
+    
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
         client = buildCuratorClient(config, zookeeperProps);
+        int timeToLiveSeconds = zookeeperProps.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS);
+        batchTimeoutMilliseconds = 0 == timeToLiveSeconds ? DEFAULT_BATCH_TIMEOUT_MILLISECONDS : timeToLiveSeconds * 1000;
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
         initCuratorClient(zookeeperProps);
     }
@@ -184,6 +198,66 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public Map<String, String> getDirectlyInBatch(final Collection<String> keys) {
+        Map<String, CuratorEvent> events = executeInBatch(keys, callback -> client.getData().inBackground(callback));
+        Map<String, String> result = new LinkedHashMap<>(events.size(), 1F);
+        events.forEach((key, value) -> {
+            if (null != value.getData()) {
+                result.put(key, new String(value.getData(), StandardCharsets.UTF_8));
+            }
+        });
+        return result;
+    }
+    
+    @Override
+    public Map<String, String> getRevisionsInBatch(final Collection<String> keys) {
+        Map<String, CuratorEvent> events = executeInBatch(keys, callback -> client.checkExists().inBackground(callback));
+        Map<String, String> result = new LinkedHashMap<>(events.size(), 1F);
+        events.forEach((key, value) -> {
+            if (null != value.getStat()) {
+                result.put(key, String.valueOf(value.getStat().getMzxid()));
+            }
+        });
+        return result;
+    }
+    
+    private Map<String, CuratorEvent> executeInBatch(final Collection<String> keys, final Function<BackgroundCallback, Pathable<?>> operation) {
+        Map<String, CuratorEvent> events = new ConcurrentHashMap<>(keys.size(), 1F);
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        boolean completed;
+        try {
+            for (String each : keys) {
+                operation.apply((curatorFramework, event) -> {
+                    events.put(each, event);
+                    latch.countDown();
+                }).forPath(each);
+            }
+            completed = latch.await(batchTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClusterPersistRepositoryException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterPersistRepositoryException(ex);
+        }
+        if (!completed) {
+            throw new ClusterPersistRepositoryException(new OperationTimeoutException());
+        }
+        Map<String, CuratorEvent> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            CuratorEvent event = events.get(each);
+            KeeperException.Code code = KeeperException.Code.get(event.getResultCode());
+            if (KeeperException.Code.OK == code) {
+                result.put(each, event);
+            } else if (KeeperException.Code.NONODE != code) {
+                throw new ClusterPersistRepositoryException(KeeperException.create(code, each));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
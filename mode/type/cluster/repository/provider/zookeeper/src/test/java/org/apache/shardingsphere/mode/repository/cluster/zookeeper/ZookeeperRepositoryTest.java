@@ -22,14 +22,19 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperDistributedLock;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
@@ -37,6 +42,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,12 +57,15 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -181,6 +190,49 @@ class ZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @Test
+    void assertGetDirectlyInBatch() throws Exception {
+        mockGetDataInBackground(KeeperException.Code.NONODE, false);
+        Map<String, String> actual = REPOSITORY.getDirectlyInBatch(Arrays.asList("/test/foo", "/test/bar"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("/test/foo"), is("foo_value"));
+    }
+    
+    @Test
+    void assertGetDirectlyInBatchWithConnectionLoss() throws Exception {
+        mockGetDataInBackground(KeeperException.Code.CONNECTIONLOSS, false);
+        assertThrows(ClusterPersistRepositoryException.class, () -> REPOSITORY.getDirectlyInBatch(Arrays.asList("/test/foo", "/test/bar")));
+    }
+    
+    @Test
+    void assertGetDirectlyInBatchWithTimeout() throws Exception {
+        REPOSITORY.init(new ClusterPersistRepositoryConfiguration(REPOSITORY.getType(), "governance", SERVER_LISTS, PropertiesBuilder.build(new Property(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS.getKey(), "1"))));
+        mockGetDataInBackground(KeeperException.Code.NONODE, true);
+        assertThrows(ClusterPersistRepositoryException.class, () -> REPOSITORY.getDirectlyInBatch(Arrays.asList("/test/foo", "/test/bar")));
+    }
+    
+    private void mockGetDataInBackground(final KeeperException.Code barResultCode, final boolean barCallbackLost) throws Exception {
+        GetDataBuilder getDataBuilder = mock(GetDataBuilder.class);
+        ErrorListenerPathable<byte[]> pathable = mock(ErrorListenerPathable.class);
+        AtomicReference<BackgroundCallback> callback = new AtomicReference<>();
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback.set(invocation.getArgument(0));
+            return pathable;
+        });
+        when(pathable.forPath(anyString())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            if ("/test/bar".equals(path) && barCallbackLost) {
+                return null;
+            }
+            CuratorEvent event = mock(CuratorEvent.class);
+            when(event.getResultCode()).thenReturn("/test/foo".equals(path) ? KeeperException.Code.OK.intValue() : barResultCode.intValue());
+            when(event.getData()).thenReturn("/test/foo".equals(path) ? "foo_value".getBytes(StandardCharsets.UTF_8) : null);
+            callback.get().processResult(client, event);
+            return null;
+        });
+    }
+    
     @Test
     void assertBuildCuratorClientWithCustomConfig() {
         Properties props = PropertiesBuilder.build(
@@ -39,6 +39,7 @@ import org.apache.shardingsphere.metadata.persist.service.config.global.GlobalPe
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataBasedPersistService;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.keygen.service.KeySegmentPersistService;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerAware;
 import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
@@ -323,6 +324,11 @@ public final class StandaloneModeContextManager implements ModeContextManager, C
         clearServiceCache();
     }
     
+    @Override
+    public synchronized long allocateKeySegment(final String keyName, final long segmentSize) {
+        return new KeySegmentPersistService(contextManager.getMetaDataContexts().getPersistService().getRepository()).allocate(keyName, segmentSize);
+    }
+    
     private void clearServiceCache() {
         OrderedServicesCache.clearCache();
     }
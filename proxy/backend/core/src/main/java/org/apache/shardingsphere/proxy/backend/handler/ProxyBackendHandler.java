@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.proxy.backend.handler;
 
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryRowValueReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Proxy backend handler.
@@ -56,6 +58,15 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Find row value reader.
+     *
+     * @return row value reader
+     */
+    default Optional<QueryRowValueReader> findRowValueReader() {
+        return Optional.empty();
+    }
+    
     /**
      * Close.
      * 
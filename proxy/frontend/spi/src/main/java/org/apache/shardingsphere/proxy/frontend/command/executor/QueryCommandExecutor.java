@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryRowValueReader;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Query command executor.
@@ -48,4 +50,13 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Find row value reader, which reads values of current row without building query row packet.
+     *
+     * @return row value reader
+     */
+    default Optional<QueryRowValueReader> findRowValueReader() {
+        return Optional.empty();
+    }
 }
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowBatchPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -30,6 +32,7 @@ import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryRowValueReader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
@@ -37,13 +40,17 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrorPacketFactory;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Command execute engine for MySQL.
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int ROW_BATCH_BYTES_THRESHOLD = 64 * 1024;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketType.valueOf(((MySQLPacketPayload) payload).readInt1());
@@ -70,6 +77,16 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
+        Optional<QueryRowValueReader> rowValueReader = queryCommandExecutor.findRowValueReader();
+        if (rowValueReader.isPresent()) {
+            writeRowBatches(context, databaseConnectionManager, queryCommandExecutor, rowValueReader.get());
+        } else {
+            writeRows(context, databaseConnectionManager, queryCommandExecutor);
+        }
+        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession())));
+    }
+    
+    private void writeRows(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
@@ -82,6 +99,44 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
                 count = 0;
             }
         }
-        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession())));
+    }
+    
+    private void writeRowBatches(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
+                                 final QueryCommandExecutor queryCommandExecutor, final QueryRowValueReader rowValueReader) throws SQLException {
+        Charset charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        boolean hasNext = queryCommandExecutor.next();
+        while (hasNext) {
+            MySQLTextResultSetRowBatchPacket rowBatch = new MySQLTextResultSetRowBatchPacket(context.alloc().buffer(ROW_BATCH_BYTES_THRESHOLD), charset);
+            boolean filled = false;
+            try {
+                hasNext = fillRowBatch(rowBatch, queryCommandExecutor, rowValueReader);
+                filled = true;
+            } finally {
+                if (!filled) {
+                    rowBatch.release();
+                }
+            }
+            databaseConnectionManager.getResourceLock().doAwait(context);
+            if (hasNext) {
+                context.writeAndFlush(rowBatch);
+            } else {
+                context.write(rowBatch);
+            }
+        }
+    }
+    
+    private boolean fillRowBatch(final MySQLTextResultSetRowBatchPacket rowBatch, final QueryCommandExecutor queryCommandExecutor, final QueryRowValueReader rowValueReader) throws SQLException {
+        int columnCount = rowValueReader.getColumnCount();
+        do {
+            rowBatch.beginRow();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                rowBatch.writeValue(rowValueReader.getValue(columnIndex));
+            }
+            rowBatch.endRow();
+            if (rowBatch.getBytesSize() >= ROW_BATCH_BYTES_THRESHOLD) {
+                return queryCommandExecutor.next();
+            }
+        } while (queryCommandExecutor.next());
+        return false;
     }
 }
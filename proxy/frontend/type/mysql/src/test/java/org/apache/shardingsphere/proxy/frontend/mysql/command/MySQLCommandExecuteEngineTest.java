@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowBatchPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryRowValueReader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Channel channel;
+    
+    @Mock
+    private MySQLComQueryPacketExecutor queryCommandExecutor;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Mock
+    private ProxyDatabaseConnectionManager databaseConnectionManager;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(databaseConnectionManager.getResourceLock()).thenReturn(resourceLock);
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(mock(ConnectionSession.class, RETURNS_DEEP_STUBS));
+    }
+    
+    @Test
+    void assertWriteQueryDataWithRowValueReader() throws SQLException {
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        QueryRowValueReader rowValueReader = mock(QueryRowValueReader.class);
+        when(rowValueReader.getColumnCount()).thenReturn(2);
+        when(rowValueReader.getValue(1)).thenReturn(1, 2);
+        when(rowValueReader.getValue(2)).thenReturn("foo", null);
+        when(queryCommandExecutor.findRowValueReader()).thenReturn(Optional.of(rowValueReader));
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        ArgumentCaptor<Object> packetCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(packetCaptor.capture());
+        MySQLTextResultSetRowBatchPacket actualRowBatch = (MySQLTextResultSetRowBatchPacket) packetCaptor.getAllValues().get(0);
+        assertThat(actualRowBatch.getRowCount(), is(2));
+        assertThat(actualRowBatch.getBytesSize(), is(17));
+        assertThat(packetCaptor.getAllValues().get(1), instanceOf(MySQLEofPacket.class));
+        verify(resourceLock).doAwait(context);
+        verify(queryCommandExecutor, never()).getQueryRowPacket();
+        actualRowBatch.release();
+    }
+    
+    @Test
+    void assertWriteQueryDataWithoutRowValueReader() throws SQLException {
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        when(queryCommandExecutor.findRowValueReader()).thenReturn(Optional.empty());
+        MySQLPacket packet = mock(MySQLPacket.class);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(resourceLock).doAwait(context);
+        verify(context).write(packet);
+        verify(context).write(isA(MySQLEofPacket.class));
+    }
+}